@@ -0,0 +1,55 @@
+package tictactoe;
+
+// 벤치마크에서 공통으로 사용하는 고정 국면. 각 국면은 X부터 번갈아 둔 수의 순서로 정의합니다.
+final class BenchmarkPositions {
+    private BenchmarkPositions() {
+    }
+
+    // 3×3 국면 이름: empty(빈 보드), opening(2수), midgame(5수), endgame(7수)
+    static Board classic(String name) {
+        switch (name) {
+            case "empty":
+                return play(new Board());
+            case "opening":
+                return play(new Board(), 4, 0);
+            case "midgame":
+                return play(new Board(), 4, 0, 2, 6, 3);
+            case "endgame":
+                return play(new Board(), 0, 4, 8, 2, 6, 3, 5);
+            default:
+                throw new IllegalArgumentException("알 수 없는 국면입니다: " + name);
+        }
+    }
+
+    // size×size 보드(5목, 5×5 이하는 4목)의 중앙 근처에 6수를 둔 국면
+    static Board large(int size) {
+        int winLength = size > 5 ? 5 : 4;
+        Board board = new Board(size, winLength);
+        int c = size / 2;
+        return play(board,
+                c * size + c, c * size + c + 1,
+                (c + 1) * size + c, (c - 1) * size + c,
+                (c + 1) * size + c + 1, (c - 1) * size + c - 1);
+    }
+
+    // 국면에서 둘 차례인 심볼(X가 먼저 두므로 돌 수가 짝수이면 X)
+    static char sideToMove(Board board) {
+        int stones = board.getCellCount() - board.getEmptyCount();
+        return (stones % 2 == 0) ? 'X' : 'O';
+    }
+
+    static char opponent(char symbol) {
+        return symbol == 'X' ? 'O' : 'X';
+    }
+
+    private static Board play(Board board, int... moves) {
+        char turn = 'X';
+        for (int move : moves) {
+            if (!board.makeMove(move, turn)) {
+                throw new IllegalStateException("잘못된 벤치마크 국면입니다: " + move);
+            }
+            turn = opponent(turn);
+        }
+        return board;
+    }
+}
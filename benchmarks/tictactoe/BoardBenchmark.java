@@ -0,0 +1,60 @@
+package tictactoe;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Board의 기본 연산 비용. 할당량은 -prof gc로 확인합니다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"empty", "opening", "midgame", "endgame"})
+    public String position;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.classic(position);
+    }
+
+    @Benchmark
+    public char checkWinner() {
+        return board.checkWinner();
+    }
+
+    @Benchmark
+    public Board cloneBoard() {
+        return board.clone();
+    }
+
+    @Benchmark
+    public List<Integer> getAvailableMoves() {
+        return board.getAvailableMoves();
+    }
+
+    // 탐색에서 노드마다 일어나는 수 두기/되돌리기 한 쌍
+    @Benchmark
+    public char makeAndUndoMove() {
+        int move = Long.numberOfTrailingZeros(board.getEmptyBits(0));
+        board.makeMove(move, BenchmarkPositions.sideToMove(board));
+        char winner = board.checkWinner();
+        board.undoMove(move);
+        return winner;
+    }
+}
@@ -0,0 +1,19 @@
+package tictactoe;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 탐색한 노드 수를 JMH 보조 카운터로 보고합니다. 이 카운터를 쓰는 벤치마크는 처리량 모드라 초당 노드 수(nodes/s)로 출력됩니다.
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class NodeCounter {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        nodes = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 큰 보드에서 스레드 수에 따른 루트 병렬 탐색 속도. threads=1 결과와 비교해 속도 향상을 계산합니다.
+// 처리량 모드라 점수는 초당 탐색 횟수이고, nodes 카운터는 초당 노드 수입니다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelSearchBenchmark {
+    @Param({"5", "7", "9"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Board board;
+    private MinimaxAI minimaxAI;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.large(size);
+        char side = BenchmarkPositions.sideToMove(board);
+        minimaxAI = new MinimaxAI(side, BenchmarkPositions.opponent(side), 10);
+        minimaxAI.setSharedCache(null); // 다른 호출이 남긴 점수를 재사용하지 않도록 공유 캐시를 끕니다.
+        minimaxAI.setThreadCount(threads);
+    }
+
+    // 탐색 한 번이 수 밀리초 이상 걸리므로 호출마다 치환표를 비워도 준비 비용이 측정값에 묻힙니다.
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        minimaxAI.clearTable();
+    }
+
+    @Benchmark
+    public int searchMove(NodeCounter counter) {
+        int move = minimaxAI.makeMove(board);
+        counter.nodes += minimaxAI.getNodeCount();
+        return move;
+    }
+}
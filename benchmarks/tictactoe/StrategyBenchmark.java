@@ -0,0 +1,77 @@
+package tictactoe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 3×3 국면에서 각 AI가 한 수를 고르는 비용. depth 3은 중간, 10은 어려움 난이도입니다.
+// 3×3에서 어려움은 오프닝 북을 조회하므로 표 조회 비용이, 중간은 알파-베타 탐색 비용이 측정됩니다.
+// 처리량 모드라 점수는 초당 수 계산 횟수이고, 미니맥스의 nodes 카운터는 초당 노드 수입니다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    @Param({"empty", "opening", "midgame", "endgame"})
+    public String position;
+
+    @Param({"3", "10"})
+    public int depth;
+
+    // 한 번의 호출에서 탐색하는 AI 수. 치환표를 비우는 준비 작업을 이만큼의 탐색에 나눠 부담시킵니다.
+    private static final int BATCH = 32;
+
+    private Board board;
+    private EasyAI easyAI;
+    private final MinimaxAI[] minimaxAIs = new MinimaxAI[BATCH];
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.classic(position);
+        char side = BenchmarkPositions.sideToMove(board);
+        easyAI = new EasyAI();
+        for (int i = 0; i < BATCH; i++) {
+            minimaxAIs[i] = new MinimaxAI(side, BenchmarkPositions.opponent(side), depth);
+            minimaxAIs[i].setSharedCache(null); // 다른 호출이 남긴 점수를 재사용하지 않도록 공유 캐시를 끕니다.
+        }
+    }
+
+    // 같은 국면을 반복 탐색하므로 호출마다 모든 AI의 치환표를 비워 각 AI가 처음부터 탐색하게 합니다.
+    // 탐색 한 번은 수 마이크로초라, 매 탐색 전에 비우면 준비 작업의 고정 비용이 측정값을 왜곡합니다.
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        for (MinimaxAI minimaxAI : minimaxAIs) {
+            minimaxAI.clearTable();
+        }
+    }
+
+    @Benchmark
+    public int easyMove() {
+        return easyAI.makeMove(board);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int minimaxMove(NodeCounter counter) {
+        int moves = 0;
+        for (MinimaxAI minimaxAI : minimaxAIs) {
+            moves += minimaxAI.makeMove(board);
+            counter.nodes += minimaxAI.getNodeCount();
+        }
+        return moves;
+    }
+}
@@ -1,4 +0,0 @@
-public interface AIStrategy {
-	int makeMove(Board board);
-    String getName();
-}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package tictactoe;
+
+public interface AIStrategy {
+	int makeMove(Board board);
+    String getName();
+    
+    // deadlineMillis(System.currentTimeMillis() 기준 시각)까지 생각할 수 있을 때의 수 선택.
+    // 시간 제한을 지원하지 않는 전략은 기본 구현대로 makeMove(board)를 그대로 사용합니다.
+    default int makeMove(Board board, long deadlineMillis) {
+        return makeMove(board);
+    }
+}
\ No newline at end of file
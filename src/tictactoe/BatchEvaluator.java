@@ -0,0 +1,196 @@
+package tictactoe;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 많은 국면의 최선의 수와 점수를 한꺼번에 계산합니다(기보 채점 등 분석 작업용).
+// - 입력을 CHUNK_SIZE개씩 읽어 병렬로 평가하고, 입력 순서대로 결과를 바로 넘기므로 입력이 아무리 커도 메모리는 일정합니다.
+// - 대칭이거나 반복된 국면은 정규화한 키(대칭 해시, 둘 차례, 보드 모양)로 묶어 한 번만 탐색합니다.
+//   같은 묶음 안의 중복은 묶음마다, 이전 묶음과의 중복은 고정 크기 결과표(TranspositionTable)로 찾습니다.
+//   대칭 국면은 대칭 변환한 같은 점수의 수를 받으므로, 직접 탐색했을 때와 칸 번호는 다를 수 있지만 점수는 같습니다.
+// - 작업 스레드마다 심볼별 MinimaxAI를 하나씩 두고 재사용하므로 치환표도 국면들 사이에서 이어서 쓰입니다.
+class BatchEvaluator implements AutoCloseable {
+    private static final int CHUNK_SIZE = 1024;
+
+    private final int depth;
+    private final ExecutorService workers;
+    private final ThreadLocal<MinimaxAI[]> workerAIs;
+    // 국면 키 → (정규화한 최선의 수, 점수). 빈 칸이 많은(탐색 비용이 큰) 국면을 우선 보존하며, 호출한 스레드만 읽고 씁니다.
+    private final TranspositionTable results;
+    private long positionCount;
+    private long searchedCount;
+
+    public BatchEvaluator(int depth, int threads, int resultCapacity) {
+        if (depth < 1 || threads < 1) {
+            throw new IllegalArgumentException("깊이와 스레드 수는 1 이상이어야 합니다: " + depth + ", " + threads);
+        }
+        this.depth = depth;
+        this.results = new TranspositionTable(resultCapacity);
+        this.workerAIs = ThreadLocal.withInitial(() -> new MinimaxAI[] {
+                new MinimaxAI('X', 'O', depth), new MinimaxAI('O', 'X', depth)});
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "batch-worker-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void evaluate(Stream<Board> positions, Consumer<MoveEvaluation> out) {
+        evaluate(positions.iterator(), out);
+    }
+
+    // positions의 국면을 차례로 평가해 입력 순서대로 out에 넘깁니다. 한 묶음이 끝날 때마다 결과가 나옵니다.
+    public void evaluate(Iterator<Board> positions, Consumer<MoveEvaluation> out) {
+        Board[] boards = new Board[CHUNK_SIZE];
+        long[] keys = new long[CHUNK_SIZE];
+        int[] moves = new int[CHUNK_SIZE];
+        int[] scores = new int[CHUNK_SIZE];
+        HashMap<Long, Future<long[]>> pending = new HashMap<>();
+        List<Future<long[]>> tasks = new ArrayList<>(CHUNK_SIZE);
+
+        while (positions.hasNext()) {
+            int count = 0;
+            pending.clear();
+            tasks.clear();
+            for (; count < CHUNK_SIZE && positions.hasNext(); count++) {
+                Board board = positions.next();
+                boards[count] = board;
+                tasks.add(null);
+                if (board.checkWinner() != Board.EMPTY || board.isFull()) {
+                    moves[count] = -1;
+                    scores[count] = 0;
+                    continue;
+                }
+
+                char turn = sideToMove(board);
+                long key = MinimaxSearcher.positionKeyOf(board, turn == 'O');
+                keys[count] = key;
+                long entry = results.probe(key);
+                if (entry != 0L) {
+                    moves[count] = board.getZobrist().fromCanonical(board.getCanonicalSymmetry(),
+                            TranspositionTable.moveOf(entry));
+                    scores[count] = TranspositionTable.scoreOf(entry);
+                    continue;
+                }
+                tasks.set(count, pending.computeIfAbsent(key, k -> workers.submit(() -> search(board, turn))));
+            }
+
+            searchedCount += pending.size();
+            for (int i = 0; i < count; i++) {
+                Future<long[]> task = tasks.get(i);
+                if (task != null) {
+                    long[] result = await(task);
+                    int canonicalMove = (int) result[0];
+                    moves[i] = boards[i].getZobrist().fromCanonical(boards[i].getCanonicalSymmetry(), canonicalMove);
+                    scores[i] = (int) result[1];
+                    results.store(keys[i], Math.min(255, boards[i].getEmptyCount()), TranspositionTable.EXACT,
+                            scores[i], canonicalMove);
+                }
+                out.accept(new MoveEvaluation(positionCount + i, moves[i], scores[i]));
+                boards[i] = null;
+            }
+            positionCount += count;
+        }
+    }
+
+    // 작업 스레드에서 국면 하나를 탐색하고 (정규화한 수, 점수)를 반환합니다.
+    private long[] search(Board board, char turn) {
+        MinimaxAI ai = workerAIs.get()[turn == 'X' ? 0 : 1];
+        int move = ai.makeMove(board);
+        int canonicalMove = board.getZobrist().toCanonical(board.getCanonicalSymmetry(), move);
+        return new long[] {canonicalMove, ai.getLastScore()};
+    }
+
+    private static long[] await(Future<long[]> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 평가가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일괄 평가 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // X가 먼저 두므로 두 심볼의 돌 수가 같으면 X의 차례입니다.
+    static char sideToMove(Board board) {
+        int xCount = 0;
+        int oCount = 0;
+        for (int w = 0; w < board.getWordCount(); w++) {
+            xCount += Long.bitCount(board.getBits('X', w));
+            oCount += Long.bitCount(board.getBits('O', w));
+        }
+        return xCount == oCount ? 'X' : 'O';
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getPositionCount() {
+        return positionCount;
+    }
+
+    // 중복을 제외하고 실제로 탐색한 국면 수
+    public long getSearchedCount() {
+        return searchedCount;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    // 국면을 칸 문자열("X.O..X..." 형식, 빈 칸은 '.')로 바꿉니다. 길이는 크기×크기여야 합니다.
+    static Board parse(String cells, int winLength) {
+        int size = (int) Math.round(Math.sqrt(cells.length()));
+        if (size * size != cells.length()) {
+            throw new IllegalArgumentException("정사각형 보드가 아닙니다: " + cells);
+        }
+        Board board = new Board(size, Math.min(size, winLength));
+        for (int i = 0; i < cells.length(); i++) {
+            char c = Character.toUpperCase(cells.charAt(i));
+            if ((c == 'X' || c == 'O') && !board.makeMove(i, c)) {
+                throw new IllegalArgumentException("잘못된 국면입니다: " + cells);
+            } else if (c != 'X' && c != 'O' && c != '.') {
+                throw new IllegalArgumentException("알 수 없는 칸 문자입니다: " + c);
+            }
+        }
+        return board;
+    }
+
+    // 사용법: BatchEvaluator [깊이] [스레드 수] [승리 조건] < 국면 목록
+    // 표준 입력의 한 줄에 국면 하나("X.O......")를 읽어 "순번 수 점수"를 한 줄씩 출력합니다.
+    // 예) java -cp target/classes tictactoe.BatchEvaluator 10 8 < positions.txt > moves.txt
+    public static void main(String[] args) throws IOException {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : TicTacToeGame.HARD_DEPTH;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int winLength = args.length > 2 ? Integer.parseInt(args[2]) : Board.DEFAULT_SIZE;
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(System.out);
+        long start = System.nanoTime();
+        try (BatchEvaluator evaluator = new BatchEvaluator(depth, threads, 1 << 20)) {
+            evaluator.evaluate(in.lines().map(String::trim).filter(line -> !line.isEmpty())
+                    .map(line -> parse(line, winLength)), out::println);
+            out.flush();
+            System.err.printf("국면 %,d개 (탐색 %,d개), %.1f초%n", evaluator.getPositionCount(),
+                    evaluator.getSearchedCount(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
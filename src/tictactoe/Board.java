@@ -0,0 +1,298 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// N×N 보드에서 K개를 연속으로 놓으면 이기는 게임판. 기본값은 3×3, 3목입니다.
+// 보드는 심볼별 비트보드(long 배열)로 표현하며, 칸 i는 words[i / 64]의 (i % 64)번째 비트에 대응합니다.
+// 미니맥스가 같은 보드 위에서 makeMove/undoMove로 수를 두고 되돌릴 수 있어 탐색 노드마다 새 보드를 만들 필요가 없습니다.
+class Board {
+    public static final int DEFAULT_SIZE = 3;
+    public static final char EMPTY = ' ';
+
+    private final int size;
+    private final int winLength;
+    private final int cellCount;
+    private final Zobrist zobrist;
+    private final BoardLines lines;
+
+    private final long[] xBits;
+    private final long[] oBits;
+    private final long[] fullBits; // 모든 칸이 채워졌을 때의 비트
+    // 주변 8칸에 놓인 돌의 수. 큰 보드에서 후보 수를 기존 돌 근처로 좁힐 때 사용합니다.
+    private final byte[] neighborCount;
+    private int stoneCount;
+
+    // 승패는 마지막 수가 지나는 줄만 검사해 갱신하고, 승리를 만든 수를 되돌리면 지웁니다.
+    private char winner;
+    private int winningCell;
+
+    // winLength 길이의 줄마다 놓인 X/O 돌의 수. 수를 둘 때 그 칸을 지나는 줄만 갱신하므로
+    // 승패, 한 수면 완성되는 줄(위협) 수, 휴리스틱 평가를 보드 전체를 훑지 않고 바로 얻을 수 있습니다.
+    private final short[] xLineCount;
+    private final short[] oLineCount;
+    private int xThreats;
+    private int oThreats;
+    private long xPotential; // 상대 돌이 없는 줄마다 돌 수에 따른 가중치를 더한 값
+    private long oPotential;
+
+    // 8가지 대칭 각각에 대한 조브리스트 해시. 수를 둘 때마다 XOR로 갱신합니다.
+    private final long[] hashes = new long[Zobrist.SYMMETRY_COUNT];
+
+    public Board() {
+        this(DEFAULT_SIZE, DEFAULT_SIZE);
+    }
+
+    public Board(int size, int winLength) {
+        if (size < 1 || winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("보드 크기와 승리 조건이 올바르지 않습니다: " + size + "x" + size + ", " + winLength + "목");
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+        this.zobrist = Zobrist.forSize(size);
+        this.lines = BoardLines.of(size, winLength);
+
+        int words = (cellCount + 63) / 64;
+        xBits = new long[words];
+        oBits = new long[words];
+        fullBits = new long[words];
+        for (int i = 0; i < cellCount; i++) {
+            fullBits[i >>> 6] |= 1L << i;
+        }
+        neighborCount = new byte[cellCount];
+        xLineCount = new short[lines.getLineCount()];
+        oLineCount = new short[lines.getLineCount()];
+        reset();
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(xBits, 0L);
+        java.util.Arrays.fill(oBits, 0L);
+        java.util.Arrays.fill(neighborCount, (byte) 0);
+        java.util.Arrays.fill(hashes, 0L);
+        java.util.Arrays.fill(xLineCount, (short) 0);
+        java.util.Arrays.fill(oLineCount, (short) 0);
+        xThreats = 0;
+        oThreats = 0;
+        xPotential = 0;
+        oPotential = 0;
+        stoneCount = 0;
+        winner = EMPTY;
+        winningCell = -1;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getEmptyCount() {
+        return cellCount - stoneCount;
+    }
+
+    public boolean makeMove(int position, char player) {
+        if (position < 0 || position >= cellCount || getCell(position) != EMPTY) {
+            return false;
+        }
+
+        long bit = 1L << position;
+        if (player == 'X') {
+            xBits[position >>> 6] |= bit;
+        } else if (player == 'O') {
+            oBits[position >>> 6] |= bit;
+        } else {
+            return false;
+        }
+        stoneCount++;
+        updateHashes(player, position);
+        updateNeighbors(position, 1);
+
+        if (updateLines(position, player, 1) && winner == EMPTY) {
+            winner = player;
+            winningCell = position;
+        }
+        return true;
+    }
+
+    // makeMove로 놓은 수를 되돌립니다. 탐색 중 같은 보드를 재사용하기 위해 사용하며,
+    // 승리를 만든 수가 되돌려지면 승자 정보도 함께 지웁니다.
+    public void undoMove(int position) {
+        char player = getCell(position);
+        if (player == EMPTY) {
+            return;
+        }
+        updateHashes(player, position);
+        updateNeighbors(position, -1);
+        updateLines(position, player, -1);
+        long bit = ~(1L << position);
+        xBits[position >>> 6] &= bit;
+        oBits[position >>> 6] &= bit;
+        stoneCount--;
+
+        if (position == winningCell) {
+            winner = EMPTY;
+            winningCell = -1;
+        }
+    }
+
+    public char getCell(int position) {
+        long bit = 1L << position;
+        if ((xBits[position >>> 6] & bit) != 0) return 'X';
+        if ((oBits[position >>> 6] & bit) != 0) return 'O';
+        return EMPTY;
+    }
+
+    public boolean isEmpty(int position) {
+        return ((xBits[position >>> 6] | oBits[position >>> 6]) & (1L << position)) == 0;
+    }
+
+    public char checkWinner() {
+        return winner;
+    }
+
+    public boolean isFull() {
+        return stoneCount == cellCount;
+    }
+
+    // 방금 둔(또는 되돌린) 칸을 지나는 줄의 돌 수를 바꾸고, 그 줄들이 위협 수와 평가값에 주던 몫을 다시 계산합니다.
+    // 돌을 놓아 winLength개가 찬 줄이 생기면 true를 반환합니다.
+    private boolean updateLines(int position, char player, int delta) {
+        short[] own = player == 'X' ? xLineCount : oLineCount;
+        boolean completed = false;
+        for (int line : lines.linesThrough(position)) {
+            removeLine(line);
+            own[line] += delta;
+            addLine(line);
+            completed |= own[line] == winLength;
+        }
+        return completed;
+    }
+
+    private void addLine(int line) {
+        accountLine(line, 1);
+    }
+
+    private void removeLine(int line) {
+        accountLine(line, -1);
+    }
+
+    // 한쪽 돌만 있는 줄은 그쪽의 평가값에 가중치를 더하고, winLength - 1개가 찼으면 위협으로 셉니다.
+    private void accountLine(int line, int sign) {
+        int x = xLineCount[line];
+        int o = oLineCount[line];
+        if (o == 0 && x > 0) {
+            xPotential += sign * lines.weight(x);
+            if (x == winLength - 1) xThreats += sign;
+        } else if (x == 0 && o > 0) {
+            oPotential += sign * lines.weight(o);
+            if (o == winLength - 1) oThreats += sign;
+        }
+    }
+
+    // 상대 돌이 없고 한 칸만 비어 있는 줄의 수. 해당 심볼 차례라면 다음 수에 이길 수 있습니다.
+    public int getThreatCount(char player) {
+        return player == 'X' ? xThreats : oThreats;
+    }
+
+    // 상대 돌이 없는 줄마다 돌 수에 따른 가중치(돌 하나당 8배)를 더한 값. 깊이 제한 탐색의 휴리스틱 평가에 사용합니다.
+    public long getPotential(char player) {
+        return player == 'X' ? xPotential : oPotential;
+    }
+
+    private void updateNeighbors(int position, int delta) {
+        int row = position / size;
+        int col = position % size;
+        for (int r = Math.max(0, row - 1); r <= Math.min(size - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(size - 1, col + 1); c++) {
+                if (r != row || c != col) {
+                    neighborCount[r * size + c] += delta;
+                }
+            }
+        }
+    }
+
+    // 주변 8칸 중 돌이 하나라도 있는지 여부
+    public boolean hasNeighbor(int position) {
+        return neighborCount[position] > 0;
+    }
+
+    // 비트보드를 64칸 단위(word)로 나눠 제공합니다. 리스트를 만들지 않고 칸을 순회할 때 사용합니다.
+    public int getWordCount() {
+        return xBits.length;
+    }
+
+    // 해당 심볼이 놓인 칸을 비트로 표시한 값
+    public long getBits(char player, int word) {
+        return player == 'X' ? xBits[word] : oBits[word];
+    }
+
+    // 빈 칸을 비트로 표시한 값
+    public long getEmptyBits(int word) {
+        return ~(xBits[word] | oBits[word]) & fullBits[word];
+    }
+
+    // XOR은 자기 자신이 역연산이므로 수를 둘 때와 되돌릴 때 같은 메서드를 사용합니다.
+    private void updateHashes(char player, int position) {
+        for (int s = 0; s < Zobrist.SYMMETRY_COUNT; s++) {
+            hashes[s] ^= zobrist.key(player, s, position);
+        }
+    }
+
+    // 회전/반사로 같아지는 국면들이 공유하는 대표 해시(8개 대칭 해시 중 최솟값)
+    public long getCanonicalHash() {
+        return hashes[getCanonicalSymmetry()];
+    }
+
+    // 대표 해시를 만든 대칭 번호. 저장된 수를 원래 좌표로 되돌릴 때 사용합니다.
+    public int getCanonicalSymmetry() {
+        int best = 0;
+        for (int s = 1; s < Zobrist.SYMMETRY_COUNT; s++) {
+            if (hashes[s] < hashes[best]) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    public Zobrist getZobrist() {
+        return zobrist;
+    }
+
+    public Board clone() {
+        Board newBoard = new Board(size, winLength);
+        System.arraycopy(this.xBits, 0, newBoard.xBits, 0, xBits.length);
+        System.arraycopy(this.oBits, 0, newBoard.oBits, 0, oBits.length);
+        System.arraycopy(this.neighborCount, 0, newBoard.neighborCount, 0, cellCount);
+        System.arraycopy(this.hashes, 0, newBoard.hashes, 0, hashes.length);
+        System.arraycopy(this.xLineCount, 0, newBoard.xLineCount, 0, xLineCount.length);
+        System.arraycopy(this.oLineCount, 0, newBoard.oLineCount, 0, oLineCount.length);
+        newBoard.xThreats = this.xThreats;
+        newBoard.oThreats = this.oThreats;
+        newBoard.xPotential = this.xPotential;
+        newBoard.oPotential = this.oPotential;
+        newBoard.stoneCount = this.stoneCount;
+        newBoard.winner = this.winner;
+        newBoard.winningCell = this.winningCell;
+        return newBoard;
+    }
+
+    // 해당 메서드는 호출 시점에 빈 칸의 개수를 미리 알 수 없고, 반복문을 돌면서 빈 칸을 발견할 때마다 요소를 추가해야 합니다.
+    // 따라서 컬렉션 프레임워크 중에서 동적 크기를 지원하고 요소 추가가 효율적인 ArrayList가 가장 적합하여 사용했습니다.
+    public List<Integer> getAvailableMoves() {
+        List<Integer> moves = new ArrayList<>();
+        for (int w = 0; w < getWordCount(); w++) {
+            for (long empty = getEmptyBits(w); empty != 0; empty &= empty - 1) {
+                moves.add((w << 6) + Long.numberOfTrailingZeros(empty));
+            }
+        }
+        return moves;
+    }
+}
\ No newline at end of file
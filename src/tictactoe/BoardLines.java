@@ -0,0 +1,73 @@
+package tictactoe;
+
+// N×N 보드에서 winLength 길이로 만들 수 있는 모든 줄(가로, 세로, 두 대각선)과 칸마다 그 칸을 지나는 줄 목록.
+// 보드가 수를 둘 때 해당 칸을 지나는 줄의 돌 수만 갱신할 수 있도록 미리 만들어 두며,
+// 크기와 승리 조건별로 한 번만 만들어 모든 보드가 공유합니다.
+final class BoardLines {
+    // 가로, 세로, 대각선(↘), 반대 대각선(↙) 방향
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private static final java.util.concurrent.ConcurrentHashMap<Long, BoardLines> CACHE =
+            new java.util.concurrent.ConcurrentHashMap<>();
+
+    private final int[][] lines;       // lines[줄] = 줄에 속한 칸 번호
+    private final int[][] linesByCell; // linesByCell[칸] = 그 칸을 지나는 줄 번호
+    // 한쪽 돌만 n개 있는 줄의 휴리스틱 가중치. 돌이 하나 늘 때마다 8배가 되며, 넘치지 않도록 지수를 제한합니다.
+    private final long[] weights;
+
+    private BoardLines(int size, int length) {
+        java.util.List<int[]> result = new java.util.ArrayList<>();
+        int[] perCell = new int[size * size];
+        for (int[] d : DIRECTIONS) {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    int endRow = r + d[0] * (length - 1);
+                    int endCol = c + d[1] * (length - 1);
+                    if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                        continue;
+                    }
+                    int[] line = new int[length];
+                    for (int k = 0; k < length; k++) {
+                        line[k] = (r + d[0] * k) * size + (c + d[1] * k);
+                        perCell[line[k]]++;
+                    }
+                    result.add(line);
+                }
+            }
+        }
+        lines = result.toArray(new int[0][]);
+
+        linesByCell = new int[size * size][];
+        for (int cell = 0; cell < perCell.length; cell++) {
+            linesByCell[cell] = new int[perCell[cell]];
+            perCell[cell] = 0;
+        }
+        for (int i = 0; i < lines.length; i++) {
+            for (int cell : lines[i]) {
+                linesByCell[cell][perCell[cell]++] = i;
+            }
+        }
+
+        weights = new long[length + 1];
+        for (int n = 1; n <= length; n++) {
+            weights[n] = 1L << (3 * Math.min(n - 1, 9));
+        }
+    }
+
+    static BoardLines of(int size, int winLength) {
+        return CACHE.computeIfAbsent(((long) size << 32) | winLength, key -> new BoardLines(size, winLength));
+    }
+
+    int getLineCount() {
+        return lines.length;
+    }
+
+    // 칸을 지나는 줄 번호들. 반환한 배열은 공유되므로 수정하면 안 됩니다.
+    int[] linesThrough(int cell) {
+        return linesByCell[cell];
+    }
+
+    long weight(int stones) {
+        return weights[stones];
+    }
+}
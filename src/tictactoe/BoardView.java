@@ -0,0 +1,205 @@
+package tictactoe;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.function.IntConsumer;
+
+// 게임판 전체를 하나의 컴포넌트로 직접 그리는 뷰. 칸마다 JButton을 두지 않으므로
+// N×N 보드에서도 컴포넌트 수가 늘지 않고, 수를 두면 cellChanged로 그 칸 영역만 다시 그립니다.
+// 모델(Board)을 직접 읽어 그리므로 보드를 바꾸거나 다시 시작할 때도 컴포넌트 트리를 다시 만들 필요가 없습니다.
+// 커서와 글꼴은 만들어 둔 것을 재사용하고, 글꼴은 칸 크기가 바뀔 때만 새로 만듭니다. EDT에서만 사용합니다.
+class BoardView extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+    private static final Cursor DEFAULT_CURSOR = Cursor.getDefaultCursor();
+    private static final Font BASE_FONT = new Font("맑은 고딕", Font.BOLD, 60);
+    private static final int BORDER = 10; // 게임판 바깥 여백
+    private static final int MAX_GAP = 8; // 칸 사이 간격(3×3 기준). 칸이 많으면 줄입니다.
+
+    private transient Board board;
+    private transient IntConsumer moveListener;
+    private Color xColor = Color.BLUE;
+    private Color oColor = Color.RED;
+
+    // 현재 크기에서의 배치. 컴포넌트 크기나 보드 크기가 바뀔 때만 다시 계산합니다.
+    private int layoutWidth = -1;
+    private int layoutHeight = -1;
+    private int layoutSize = -1;
+    private int originX;
+    private int originY;
+    private int cellSize;
+    private int gap;
+    private Font stoneFont;
+    private int fontCellSize = -1;
+    private int pressedCell = -1;
+
+    public BoardView() {
+        setOpaque(true);
+        setBackground(Color.BLACK);
+        setPreferredSize(new Dimension(380, 380));
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                updateCursor(cellAt(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                pressedCell = SwingUtilities.isLeftMouseButton(e) ? cellAt(e.getX(), e.getY()) : -1;
+            }
+
+            // 버튼처럼 누른 칸에서 뗐을 때만 수로 처리하고, 이미 돌이 놓인 칸의 클릭은 전달하지 않습니다.
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int cell = cellAt(e.getX(), e.getY());
+                if (cell != -1 && cell == pressedCell && isEnabled() && board.isEmpty(cell) && moveListener != null) {
+                    moveListener.accept(cell);
+                    updateCursor(cell);
+                }
+                pressedCell = -1;
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    // 그릴 보드를 바꾸고 전체를 다시 그립니다. 같은 보드를 reset한 뒤에도 호출합니다.
+    public void setBoard(Board board) {
+        this.board = board;
+        layoutWidth = -1;
+        repaint();
+    }
+
+    // 사람이 칸을 눌렀을 때 칸 번호를 받을 리스너
+    public void setMoveListener(IntConsumer moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    public void setSymbolColors(Color xColor, Color oColor) {
+        this.xColor = xColor;
+        this.oColor = oColor;
+        repaint();
+    }
+
+    // 모델에서 한 칸이 바뀌었을 때 그 칸 영역만 다시 그리도록 요청합니다.
+    public void cellChanged(int position) {
+        if (board == null) {
+            return;
+        }
+        updateLayout();
+        int size = board.getSize();
+        int x = originX + (position % size) * (cellSize + gap);
+        int y = originY + (position / size) * (cellSize + gap);
+        repaint(x, y, cellSize, cellSize);
+        Point mouse = getMousePosition();
+        if (mouse != null) {
+            updateCursor(cellAt(mouse.x, mouse.y));
+        }
+    }
+
+    // 판이 끝나면 비활성화해 입력을 막고 커서를 기본 모양으로 되돌립니다.
+    @Override
+    public void setEnabled(boolean enabled) {
+        super.setEnabled(enabled);
+        setCursor(DEFAULT_CURSOR);
+    }
+
+    private void updateCursor(int cell) {
+        Cursor cursor = cell != -1 && isEnabled() && board.isEmpty(cell) ? HAND_CURSOR : DEFAULT_CURSOR;
+        if (getCursor() != cursor) {
+            setCursor(cursor);
+        }
+    }
+
+    // 화면 좌표가 가리키는 칸 번호. 칸 사이 간격이나 여백이면 -1을 반환합니다.
+    private int cellAt(int px, int py) {
+        if (board == null) {
+            return -1;
+        }
+        updateLayout();
+        int stride = cellSize + gap;
+        int dx = px - originX;
+        int dy = py - originY;
+        if (dx < 0 || dy < 0 || cellSize <= 0) {
+            return -1;
+        }
+        int col = dx / stride;
+        int row = dy / stride;
+        int size = board.getSize();
+        if (col >= size || row >= size || dx % stride >= cellSize || dy % stride >= cellSize) {
+            return -1;
+        }
+        return row * size + col;
+    }
+
+    // 가장 짧은 변에 맞춘 정사각형 게임판을 가운데 배치합니다.
+    private void updateLayout() {
+        int size = board.getSize();
+        if (getWidth() == layoutWidth && getHeight() == layoutHeight && size == layoutSize) {
+            return;
+        }
+        layoutWidth = getWidth();
+        layoutHeight = getHeight();
+        layoutSize = size;
+        gap = Math.max(1, Math.min(MAX_GAP, MAX_GAP * 3 / size));
+        int side = Math.min(layoutWidth, layoutHeight) - 2 * BORDER;
+        cellSize = Math.max(0, (side - gap * (size - 1)) / size);
+        int boardSide = cellSize * size + gap * (size - 1);
+        originX = (layoutWidth - boardSide) / 2;
+        originY = (layoutHeight - boardSide) / 2;
+    }
+
+    // 다시 그릴 영역(clip)과 겹치는 칸만 그립니다. 한 칸만 바뀌었다면 그 칸 하나만 그리게 됩니다.
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (board == null) {
+            return;
+        }
+        updateLayout();
+        if (cellSize <= 0) {
+            return;
+        }
+
+        if (fontCellSize != cellSize) {
+            stoneFont = BASE_FONT.deriveFont(cellSize * 0.6f);
+            fontCellSize = cellSize;
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(stoneFont);
+        FontMetrics metrics = g2.getFontMetrics();
+
+        int size = board.getSize();
+        int stride = cellSize + gap;
+        int firstCol = Math.max(0, (clip.x - originX) / stride);
+        int lastCol = Math.min(size - 1, (clip.x + clip.width - originX) / stride);
+        int firstRow = Math.max(0, (clip.y - originY) / stride);
+        int lastRow = Math.min(size - 1, (clip.y + clip.height - originY) / stride);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int x = originX + col * stride;
+                int y = originY + row * stride;
+                g2.setColor(Color.WHITE);
+                g2.fillRect(x, y, cellSize, cellSize);
+
+                char symbol = board.getCell(row * size + col);
+                if (symbol != Board.EMPTY) {
+                    String text = symbol == 'X' ? "X" : "O";
+                    g2.setColor(symbol == 'X' ? xColor : oColor);
+                    g2.drawString(text,
+                            x + (cellSize - metrics.stringWidth(text)) / 2,
+                            y + (cellSize - metrics.getHeight()) / 2 + metrics.getAscent());
+                }
+            }
+        }
+    }
+}
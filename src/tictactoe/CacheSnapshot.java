@@ -0,0 +1,279 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+// 평가 캐시(EvaluationCache)의 슬롯을 그대로 담은 스냅숏 파일. 다음 실행에서 처음부터 다시 풀지 않도록 합니다.
+// 파일 구성: 헤더 [MAGIC "TTTC"][VERSION][키 지문(long)][용량][블록 수][헤더 CRC] + 블록별 CRC 배열,
+//            그다음 슬롯마다 (키 워드, 데이터 워드) 16바이트. 슬롯 순서가 메모리와 같아 같은 버킷 위치에서 바로 찾습니다.
+// - 읽을 때는 파일을 매핑만 하고 내용을 옮기지 않습니다. 조회한 슬롯이 속한 블록(4096슬롯, 64KB)을 처음 읽을 때만
+//   CRC를 확인하므로 시작하자마자 쓸 수 있고, 손상된 블록은 비어 있는 것으로 취급합니다.
+// - 버전, 키 지문(공유 키를 만드는 방식과 평가 함수 버전), 용량 중 하나라도 다르면 오래된 파일로 보고 쓰지 않습니다.
+//   이런 파일과 손상된 블록이 있는 파일은 다음 저장 때 새 내용으로 통째로 다시 만들어집니다.
+// - 저장은 임시 파일에 모두 쓴 뒤 이름을 바꾸므로, 도중에 중단되어도 이전 스냅숏이 깨지지 않습니다.
+//   매핑된 파일은 (Windows에서) 바꿔치울 수 없으므로, 이름을 바꾸기 전에 close로 이전 매핑을 해제하고
+//   바꾼 뒤에 새 파일을 다시 엽니다(EvaluationCache.saveSnapshot 참고).
+// - 조회하는 쪽은 acquire/release 사이에서만 매핑을 읽습니다. close는 새 조회를 막고 진행 중인 조회가 끝나길
+//   기다린 뒤에 매핑을 해제하므로, 해제된 메모리를 읽는 일이 없습니다.
+final class CacheSnapshot {
+    private static final int MAGIC = 0x54545443; // "TTTC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 28;
+    private static final int SLOT_BYTES = 16;
+    private static final int BLOCK_SLOTS = 4096;
+
+    private static final byte UNCHECKED = 0;
+    private static final byte VALID = 1;
+    private static final byte CORRUPT = 2;
+
+    // 매핑을 명시적으로 해제하는 sun.misc.Unsafe.invokeCleaner. 쓸 수 없는 JVM이면 null이고, 그때는 GC에 맡깁니다.
+    // JDK 21에는 MappedByteBuffer를 해제하는 공개 API가 없습니다(Arena로 매핑하는 FFM API는 22부터 정식).
+    // GC에 맡기면 언제 해제될지 알 수 없어, 저장할 때 매핑된 파일을 바꿔치우거나(Windows) 연결을 끊은 뒤
+    // 파일을 지우지 못하므로 이 방법을 씁니다. 매핑은 close에서 조회가 모두 끝난 뒤에만 해제합니다.
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final ByteBuffer slots; // 매핑한 슬롯 영역
+    private final int[] blockCrcs;
+    // 블록별 CRC 확인 결과. 여러 스레드가 같은 블록을 동시에 확인해도 결과가 같으므로 동기화하지 않습니다.
+    private final byte[] blockState;
+    private final int capacity;
+    private final AtomicInteger readers = new AtomicInteger();
+    private volatile boolean closed;
+
+    private CacheSnapshot(ByteBuffer slots, int[] blockCrcs, int capacity) {
+        this.slots = slots;
+        this.blockCrcs = blockCrcs;
+        this.blockState = new byte[blockCrcs.length];
+        this.capacity = capacity;
+    }
+
+    // 스냅숏 파일을 매핑합니다. 파일이 없거나, 오래되었거나, 헤더가 손상되었으면 이유를 알리고 null을 반환합니다.
+    // 헤더와 블록 CRC 배열은 읽어서 확인하고, 확인이 끝난 뒤에 슬롯 영역만 매핑합니다.
+    static CacheSnapshot open(Path path, int capacity, long fingerprint) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int blocks = blockCount(capacity);
+            long dataOffset = dataOffset(blocks);
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("파일이 너무 짧습니다: " + channel.size() + "바이트");
+            }
+            ByteBuffer header = ByteBuffer.allocate((int) Math.min(dataOffset, channel.size()));
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // 헤더와 블록 CRC 배열을 끝까지 읽습니다.
+            }
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("평가 캐시 스냅숏 파일이 아닙니다.");
+            }
+            if (header.getInt(4) != VERSION || header.getLong(8) != fingerprint || header.getInt(16) != capacity) {
+                System.err.println("평가 캐시 스냅숏이 현재 엔진과 맞지 않아 사용하지 않고 다음 저장 때 다시 만듭니다: " + path);
+                return null;
+            }
+            if (header.getInt(20) != blocks || channel.size() != dataOffset + (long) capacity * SLOT_BYTES) {
+                throw new IOException("파일이 잘렸거나 크기가 맞지 않습니다.");
+            }
+
+            int[] blockCrcs = new int[blocks];
+            for (int b = 0; b < blocks; b++) {
+                blockCrcs[b] = header.getInt(HEADER_BYTES + b * 4);
+            }
+            if (header.getInt(24) != headerCrc(header, blocks)) {
+                throw new IOException("헤더 체크섬이 맞지 않습니다.");
+            }
+            ByteBuffer slots = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, (long) capacity * SLOT_BYTES);
+            return new CacheSnapshot(slots, blockCrcs, capacity);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("평가 캐시 스냅숏을 읽지 못해 다음 저장 때 다시 만듭니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 매핑을 읽기 전에 호출합니다. 이미 닫혔으면 false를 반환하며, 그때는 release를 호출하지 않습니다.
+    boolean acquire() {
+        readers.incrementAndGet();
+        if (closed) {
+            readers.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release() {
+        readers.decrementAndGet();
+    }
+
+    // 새 조회를 막고, 진행 중인 조회가 끝나면 매핑을 해제합니다. 조회는 슬롯 몇 개만 읽으므로 오래 기다리지 않습니다.
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        while (readers.get() != 0) {
+            Thread.onSpinWait();
+        }
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, slots);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                System.err.println("평가 캐시 스냅숏의 매핑을 해제하지 못했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    // slot에 저장된 항목이 key의 것이면 데이터 워드를, 아니면(또는 블록이 손상되었으면) 0을 반환합니다.
+    // acquire와 release 사이에서 호출합니다.
+    long probe(int slot, long key) {
+        long entry = dataAt(slot);
+        return entry != 0 && (keyAt(slot) ^ entry) == key ? entry : 0L;
+    }
+
+    // 블록이 손상되었으면 빈 슬롯처럼 0을 반환합니다.
+    long dataAt(int slot) {
+        return isValidBlock(slot / BLOCK_SLOTS) ? slots.getLong(slot * SLOT_BYTES + 8) : 0L;
+    }
+
+    long keyAt(int slot) {
+        return isValidBlock(slot / BLOCK_SLOTS) ? slots.getLong(slot * SLOT_BYTES) : 0L;
+    }
+
+    private boolean isValidBlock(int block) {
+        byte state = blockState[block];
+        if (state == UNCHECKED) {
+            int start = block * BLOCK_SLOTS * SLOT_BYTES;
+            int end = Math.min(capacity, (block + 1) * BLOCK_SLOTS) * SLOT_BYTES;
+            ByteBuffer view = slots.duplicate();
+            view.limit(end).position(start);
+            CRC32C crc = new CRC32C();
+            crc.update(view);
+            state = (int) crc.getValue() == blockCrcs[block] ? VALID : CORRUPT;
+            if (state == CORRUPT) {
+                System.err.println("평가 캐시 스냅숏의 블록 " + block + "이 손상되어 무시합니다.");
+            }
+            blockState[block] = state;
+        }
+        return state == VALID;
+    }
+
+    // 캐시 내용을 path 옆의 임시 파일(path.tmp)에 저장하고 그 경로를 반환합니다. 메모리 슬롯이 비어 있으면
+    // 이전 스냅숏(previous)의 같은 슬롯을 이어받아, 아직 조회되지 않아 메모리로 올라오지 않은 항목도 잃지 않습니다.
+    // 저장한 파일은 replace로 path 자리에 옮깁니다.
+    static Path writeTemp(Path path, EvaluationCache cache, CacheSnapshot previous, long fingerprint)
+            throws IOException {
+        int capacity = cache.getCapacity();
+        if (previous != null && (previous.capacity != capacity || !previous.acquire())) {
+            previous = null;
+        }
+        try {
+            return writeTemp(path, cache, previous, fingerprint, capacity);
+        } finally {
+            if (previous != null) {
+                previous.release();
+            }
+        }
+    }
+
+    private static Path writeTemp(Path path, EvaluationCache cache, CacheSnapshot previous, long fingerprint,
+                                  int capacity) throws IOException {
+        int blocks = blockCount(capacity);
+        long dataOffset = dataOffset(blocks);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int[] blockCrcs = new int[blocks];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SLOTS * SLOT_BYTES);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(dataOffset);
+            for (int b = 0; b < blocks; b++) {
+                buffer.clear();
+                int end = Math.min(capacity, (b + 1) * BLOCK_SLOTS);
+                for (int slot = b * BLOCK_SLOTS; slot < end; slot++) {
+                    // 데이터를 먼저 읽고 키를 읽습니다. 그 사이에 다른 스레드가 덮어써 어긋난 항목은 읽을 때 걸러집니다.
+                    long data = cache.dataWordAt(slot);
+                    long key = cache.keyWordAt(slot);
+                    if (data == 0 && previous != null) {
+                        data = previous.dataAt(slot);
+                        key = previous.keyAt(slot);
+                    }
+                    buffer.putLong(key).putLong(data);
+                }
+                buffer.flip();
+                CRC32C crc = new CRC32C();
+                crc.update(buffer.duplicate());
+                blockCrcs[b] = (int) crc.getValue();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            ByteBuffer header = ByteBuffer.allocate((int) dataOffset);
+            header.putInt(MAGIC).putInt(VERSION).putLong(fingerprint).putInt(capacity).putInt(blocks).putInt(0);
+            for (int crc : blockCrcs) {
+                header.putInt(crc);
+            }
+            header.putInt(24, headerCrc(header, blocks));
+            header.clear();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        return temp;
+    }
+
+    // writeTemp로 저장한 임시 파일을 path 자리로 옮깁니다. path를 매핑한 스냅숏은 미리 close해야 합니다.
+    static void replace(Path temp, Path path) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 헤더 CRC 자리(24~27)를 뺀 헤더와 블록 CRC 배열의 체크섬
+    private static int headerCrc(ByteBuffer buffer, int blocks) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer view = buffer.duplicate();
+        view.limit(24).position(0);
+        crc.update(view);
+        view.limit(HEADER_BYTES + blocks * 4).position(HEADER_BYTES);
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    private static int blockCount(int capacity) {
+        return (capacity + BLOCK_SLOTS - 1) / BLOCK_SLOTS;
+    }
+
+    // 슬롯 영역은 8바이트 단위로 맞춰 시작합니다.
+    private static long dataOffset(int blocks) {
+        return (HEADER_BYTES + blocks * 4L + 7) & ~7L;
+    }
+}
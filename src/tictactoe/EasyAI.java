@@ -0,0 +1,41 @@
+package tictactoe;
+
+import java.util.Random;
+
+class EasyAI implements AIStrategy {
+    private String name;
+    private Random random;
+    
+    public EasyAI() {
+        this.name = "쉬움 AI";
+        this.random = new Random();
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    // 빈 칸 비트에서 k번째 비트를 직접 골라 리스트를 만들지 않고 무작위 수를 선택합니다.
+    @Override
+    public int makeMove(Board board) {
+        int emptyCount = board.getEmptyCount();
+        
+        if (emptyCount > 0) {
+            int k = random.nextInt(emptyCount);
+            for (int w = 0; w < board.getWordCount(); w++) {
+                long empty = board.getEmptyBits(w);
+                int count = Long.bitCount(empty);
+                if (k < count) {
+                    for (; k > 0; k--) {
+                        empty &= empty - 1;
+                    }
+                    return (w << 6) + Long.numberOfTrailingZeros(empty);
+                }
+                k -= count;
+            }
+        }
+        
+        return -1;
+    }
+}
\ No newline at end of file
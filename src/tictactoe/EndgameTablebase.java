@@ -0,0 +1,359 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// N×N 보드(칸 64개 이하)에서 빈 칸이 maxEmpties개 이하인 모든 국면의 결과를 미리 풀어 둔 종반 표.
+// - 국면 번호는 조합 수 체계로 매깁니다: 빈 칸 수 e별 구간 안에서 (빈 칸 집합의 순위) × C(채워진 칸, X 수) + (X 집합의 순위).
+//   X가 먼저 두므로 빈 칸 수가 정해지면 X와 O의 개수도 정해져, 번호에 빈틈이 없습니다.
+// - 결과는 둘 차례 기준 2비트(무승부, 승, 패, 이미 끝났거나 나올 수 없는 국면)로 한 바이트에 4개씩 저장합니다.
+// - 빈 칸이 1개인 국면부터 한 단계씩 거꾸로 풉니다. 빈 칸이 e개인 국면은 e-1개인 국면의 결과만 보면 됩니다.
+// - 파일은 메모리 매핑으로 읽으므로 크기와 상관없이 로딩이 즉시 끝나고, 필요한 부분만 메모리에 올라옵니다.
+// 승패까지 남은 수는 저장하지 않으므로, MinimaxAI는 무승부일 때만 바로 값을 쓰고 승패는 가지치기 경계로만 씁니다.
+class EndgameTablebase {
+    static final int DRAW = 0;
+    static final int WIN = 1;  // 둘 차례인 쪽이 이김
+    static final int LOSS = 2; // 둘 차례인 쪽이 짐
+    static final int INVALID = 3; // 이미 승패가 났거나 나올 수 없는 국면
+    static final int UNKNOWN = -1; // 표에 없는 국면
+
+    private static final int MAGIC = 0x54545445; // "TTTE"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final int MAX_CELLS = 64;
+    // 한 번에 매핑할 수 있는 크기(2GB 미만)로 제한합니다.
+    private static final long MAX_BYTES = Integer.MAX_VALUE - HEADER_BYTES;
+
+    // 작업 디렉터리에서 찾은 보드 모양별 기본 표. 파일이 없으면 빈 값을 기억해 다시 찾지 않습니다.
+    private static final ConcurrentHashMap<Integer, Optional<EndgameTablebase>> DEFAULTS = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int winLength;
+    private final int maxEmpties;
+    private final int cellCount;
+    private final long[][] binomial;
+    private final long[] offsets; // 빈 칸 수 e인 국면들의 시작 번호
+    private final long[] lines; // 승리 줄(칸 비트 마스크)
+    private final ByteBuffer results; // 헤더 다음부터 결과가 시작됩니다.
+    private final long loadMillis;
+
+    private EndgameTablebase(int size, int winLength, int maxEmpties, ByteBuffer results, long loadMillis) {
+        this.size = size;
+        this.winLength = winLength;
+        this.maxEmpties = maxEmpties;
+        this.cellCount = size * size;
+        this.binomial = binomialTable(cellCount);
+        this.offsets = new long[maxEmpties + 2];
+        for (int e = 1; e <= maxEmpties; e++) {
+            offsets[e + 1] = offsets[e] + countPositions(e);
+        }
+        this.lines = winningLines(size, winLength);
+        this.results = results;
+        this.loadMillis = loadMillis;
+    }
+
+    // 빈 칸이 e개인 국면의 수: C(칸 수, e) × C(채워진 칸 수, X 수)
+    private long countPositions(int e) {
+        int filled = cellCount - e;
+        return binomial[cellCount][e] * binomial[filled][(filled + 1) / 2];
+    }
+
+    private long getEntryCount() {
+        return offsets[maxEmpties + 1];
+    }
+
+    private static long[][] binomialTable(int n) {
+        long[][] table = new long[n + 1][n + 2];
+        for (int i = 0; i <= n; i++) {
+            table[i][0] = 1;
+            for (int k = 1; k <= i; k++) {
+                table[i][k] = table[i - 1][k - 1] + (k <= i - 1 ? table[i - 1][k] : 0);
+            }
+        }
+        return table;
+    }
+
+    private static long[] winningLines(int size, int winLength) {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        long[] found = new long[4 * size * size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                for (int[] d : directions) {
+                    int endRow = row + d[0] * (winLength - 1);
+                    int endCol = col + d[1] * (winLength - 1);
+                    if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                        continue;
+                    }
+                    long mask = 0;
+                    for (int i = 0; i < winLength; i++) {
+                        mask |= 1L << ((row + d[0] * i) * size + col + d[1] * i);
+                    }
+                    found[count++] = mask;
+                }
+            }
+        }
+        return java.util.Arrays.copyOf(found, count);
+    }
+
+    // 빈 칸이 maxEmpties개 이하인 모든 국면을 풉니다.
+    public static EndgameTablebase generate(int size, int winLength, int maxEmpties) {
+        if (size < 1 || size * size > MAX_CELLS || winLength < 1 || winLength > size
+                || maxEmpties < 1 || maxEmpties > size * size) {
+            throw new IllegalArgumentException("종반 표를 만들 수 없는 설정입니다: "
+                    + size + "x" + size + ", " + winLength + "목, 빈 칸 " + maxEmpties);
+        }
+        long start = System.nanoTime();
+        EndgameTablebase sizing = new EndgameTablebase(size, winLength, maxEmpties, null, 0);
+        long bytes = (sizing.getEntryCount() + 3) / 4;
+        if (bytes > MAX_BYTES) {
+            throw new IllegalArgumentException("종반 표가 너무 큽니다(" + bytes + "바이트). 빈 칸 수를 줄이세요.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + (int) bytes);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(winLength).putInt(maxEmpties);
+        EndgameTablebase table = new EndgameTablebase(size, winLength, maxEmpties, buffer, 0);
+        for (int e = 1; e <= maxEmpties; e++) {
+            table.solveLevel(e);
+        }
+        return new EndgameTablebase(size, winLength, maxEmpties, buffer, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 빈 칸이 e개인 모든 국면을 번호 순서대로 풉니다. 빈 칸 집합과 X 집합은 Gosper 방식으로 증가하는 순서(=순위 순서)로 나열합니다.
+    private void solveLevel(int e) {
+        int filled = cellCount - e;
+        int xCount = (filled + 1) / 2;
+        char turn = (filled % 2 == 0) ? 'X' : 'O';
+        long index = offsets[e];
+        long cellMask = (cellCount == 64) ? -1L : (1L << cellCount) - 1;
+        int[] filledCells = new int[filled];
+
+        for (long empty = (1L << e) - 1; empty != 0 && (empty & ~cellMask) == 0; empty = nextCombination(empty)) {
+            int k = 0;
+            for (long bits = ~empty & cellMask; bits != 0; bits &= bits - 1) {
+                filledCells[k++] = Long.numberOfTrailingZeros(bits);
+            }
+            long subset = (xCount == 0) ? 0 : (1L << xCount) - 1;
+            long subsetLimit = 1L << filled;
+            while (true) {
+                long x = 0;
+                for (long bits = subset; bits != 0; bits &= bits - 1) {
+                    x |= 1L << filledCells[Long.numberOfTrailingZeros(bits)];
+                }
+                long o = ~empty & cellMask & ~x;
+                setResult(index++, solve(empty, x, o, turn));
+                if (xCount == 0 || xCount == filled) {
+                    break;
+                }
+                subset = nextCombination(subset);
+                if (subset >= subsetLimit || subset == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    // 같은 비트 수를 가진 다음으로 큰 수(Gosper's hack). 더 없으면 0 또는 범위를 넘는 값을 반환합니다.
+    private static long nextCombination(long value) {
+        long lowest = value & -value;
+        long ripple = value + lowest;
+        if (ripple == 0) {
+            return 0;
+        }
+        return ripple | (((value ^ ripple) >>> 2) / lowest);
+    }
+
+    private int solve(long empty, long x, long o, char turn) {
+        if (hasLine(x) || hasLine(o)) {
+            return INVALID;
+        }
+        long mine = (turn == 'X') ? x : o;
+        boolean canDraw = false;
+        for (long bits = empty; bits != 0; bits &= bits - 1) {
+            long bit = bits & -bits;
+            if (hasLine(mine | bit)) {
+                return WIN;
+            }
+            long childEmpty = empty & ~bit;
+            if (childEmpty == 0) {
+                canDraw = true;
+                continue;
+            }
+            long childX = (turn == 'X') ? x | bit : x;
+            int reply = resultOf(indexOf(childEmpty, childX));
+            if (reply == LOSS) {
+                return WIN;
+            }
+            if (reply == DRAW) {
+                canDraw = true;
+            }
+        }
+        return canDraw ? DRAW : LOSS;
+    }
+
+    private boolean hasLine(long stones) {
+        for (long line : lines) {
+            if ((stones & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 빈 칸 집합과 X 집합으로 국면 번호를 계산합니다. 집합의 순위는 원소를 작은 것부터 c_1 < c_2 < ...라 할 때 Σ C(c_j, j)입니다.
+    private long indexOf(long empty, long x) {
+        int e = Long.bitCount(empty);
+        int filled = cellCount - e;
+        long emptyRank = 0;
+        long xRank = 0;
+        int emptySeen = 0;
+        int filledSeen = 0;
+        int xSeen = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            long bit = 1L << cell;
+            if ((empty & bit) != 0) {
+                emptyRank += binomial[cell][++emptySeen];
+            } else {
+                if ((x & bit) != 0) {
+                    xRank += binomial[filledSeen][++xSeen];
+                }
+                filledSeen++;
+            }
+        }
+        return offsets[e] + emptyRank * binomial[filled][(filled + 1) / 2] + xRank;
+    }
+
+    private int resultOf(long index) {
+        int packed = results.get(HEADER_BYTES + (int) (index >>> 2)) & 0xFF;
+        return (packed >>> ((int) (index & 3) * 2)) & 3;
+    }
+
+    private void setResult(long index, int result) {
+        int position = HEADER_BYTES + (int) (index >>> 2);
+        int shift = (int) (index & 3) * 2;
+        results.put(position, (byte) ((results.get(position) & ~(3 << shift)) | (result << shift)));
+    }
+
+    // 보드의 결과를 둘 차례 기준으로 반환합니다. 표에 없는 국면(모양이 다르거나 빈 칸이 많음)이면 UNKNOWN입니다.
+    public int probe(Board board) {
+        int e = board.getEmptyCount();
+        if (e < 1 || e > maxEmpties || board.getSize() != size || board.getWinLength() != winLength) {
+            return UNKNOWN;
+        }
+        long x = board.getBits('X', 0);
+        int xCount = Long.bitCount(x);
+        int filled = cellCount - e;
+        if (xCount != (filled + 1) / 2) {
+            return UNKNOWN;
+        }
+        return resultOf(indexOf(board.getEmptyBits(0), x));
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getMaxEmpties() {
+        return maxEmpties;
+    }
+
+    public long getPositionCount() {
+        return getEntryCount();
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public void write(Path path) throws IOException {
+        ByteBuffer view = results.duplicate();
+        view.clear();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        }
+    }
+
+    public static EndgameTablebase load(Path path) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > MAX_BYTES + HEADER_BYTES) {
+                throw new IOException("종반 표 파일 크기가 올바르지 않습니다: " + channel.size());
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("종반 표 파일 형식이 올바르지 않습니다.");
+            }
+            int size = mapped.getInt(8);
+            int winLength = mapped.getInt(12);
+            int maxEmpties = mapped.getInt(16);
+            if (size < 1 || size * size > MAX_CELLS || winLength < 1 || winLength > size
+                    || maxEmpties < 1 || maxEmpties > size * size) {
+                throw new IOException("종반 표 설정이 올바르지 않습니다.");
+            }
+            EndgameTablebase table = new EndgameTablebase(size, winLength, maxEmpties, mapped,
+                    (System.nanoTime() - start) / 1_000_000);
+            if (channel.size() != HEADER_BYTES + (table.getEntryCount() + 3) / 4) {
+                throw new IOException("종반 표 파일이 잘렸거나 손상되었습니다.");
+            }
+            return table;
+        }
+    }
+
+    static String defaultFileName(int size, int winLength) {
+        return "endgame-" + size + "x" + size + "-" + winLength + ".bin";
+    }
+
+    // 작업 디렉터리에 이 보드 모양의 종반 표 파일(endgame-4x4-4.bin 등)이 있으면 매핑해서 반환합니다.
+    // 보드 모양마다 한 번만 찾아보고 결과를 기억합니다.
+    static EndgameTablebase findDefault(Board board) {
+        if (board.getCellCount() > MAX_CELLS) {
+            return null;
+        }
+        int key = board.getSize() * 256 + board.getWinLength();
+        return DEFAULTS.computeIfAbsent(key, k -> {
+            Path path = Paths.get(defaultFileName(board.getSize(), board.getWinLength()));
+            if (!Files.isRegularFile(path)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(load(path));
+            } catch (IOException e) {
+                System.err.println("종반 표를 읽지 못했습니다: " + e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    // 사용법: EndgameTablebase <보드 크기> <승리 조건> <최대 빈 칸 수> [파일]
+    // 파일을 생략하면 작업 디렉터리의 endgame-<크기>x<크기>-<승리 조건>.bin에 저장해, MinimaxAI가 자동으로 사용합니다.
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("사용법: EndgameTablebase <보드 크기> <승리 조건> <최대 빈 칸 수> [파일]");
+            return;
+        }
+        int size = Integer.parseInt(args[0]);
+        int winLength = Integer.parseInt(args[1]);
+        int maxEmpties = Integer.parseInt(args[2]);
+        Path path = Paths.get(args.length > 3 ? args[3] : defaultFileName(size, winLength));
+
+        EndgameTablebase table = generate(size, winLength, maxEmpties);
+        table.write(path);
+        System.out.println(String.format("종반 표 저장: %s (%dx%d %d목, 빈 칸 %d개 이하, 국면 %d개, %d바이트, %d ms)",
+                path, size, size, winLength, maxEmpties, table.getPositionCount(), Files.size(path),
+                table.getLoadMillis()));
+    }
+}
@@ -0,0 +1,282 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 모든 MinimaxAI가 함께 쓰는 프로세스 전역 국면 점수 캐시.
+// 인스턴스별 치환표는 게임이 끝나면 사라지지만, 이 캐시에 남긴 정확한 점수는 다른 게임과 다른 스레드에서도 재사용됩니다.
+// - 크기는 생성할 때 정해지고 늘어나지 않습니다. 기본 크기는 tictactoe.cache.entries 시스템 속성으로 바꿀 수 있습니다.
+// - 잠금 없이 동작합니다. 치환표처럼 키를 key ^ data로 저장해, 여러 스레드가 동시에 쓰다 어긋난 항목은 조회되지 않습니다.
+// - 4칸짜리 버킷마다 CLOCK 방식으로 교체합니다. 조회된 항목은 참조 표시가 붙어 한 바퀴 더 살아남습니다.
+// - 키는 호출하는 쪽에서 국면, 둘 차례, AI 심볼, 남은 깊이, 보드 모양을 모두 섞어 만듭니다(MinimaxSearcher 참고).
+//   그래서 MEDIUM과 HARD의 결과는 남은 깊이가 같을 때만, 즉 실제로 같은 값일 때만 공유됩니다.
+// - tictactoe.cache.snapshot 시스템 속성에 파일을 지정하면 공유 캐시를 종료할 때와 주기적으로
+//   (tictactoe.cache.snapshot.interval초, 기본 300초) 스냅숏에 저장하고, 다음 실행에서는 그 파일을 매핑해
+//   메모리에서 찾지 못한 항목을 스냅숏에서 찾아 옮겨 옵니다(CacheSnapshot 참고).
+class EvaluationCache {
+    private static final int WAYS = 4;
+    private static final int DEFAULT_ENTRIES = 1 << 18;
+    private static final EvaluationCache SHARED =
+            new EvaluationCache(Integer.getInteger("tictactoe.cache.entries", DEFAULT_ENTRIES));
+    static {
+        String snapshotFile = System.getProperty("tictactoe.cache.snapshot");
+        if (snapshotFile != null) {
+            SHARED.attachSnapshot(Paths.get(snapshotFile), Long.getLong("tictactoe.cache.snapshot.interval", 300));
+        }
+    }
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray data;
+    // 참조 표시와 버킷별 CLOCK 위치. 교체 순서를 정하는 힌트일 뿐이라 동기화 없이 읽고 씁니다.
+    private final byte[] referenced;
+    private final byte[] hands;
+    private final int bucketMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder snapshotHits = new LongAdder();
+
+    // 이전 실행의 스냅숏. 메모리에서 찾지 못한 키는 같은 버킷 위치에서 한 번 더 찾아봅니다.
+    private volatile CacheSnapshot snapshot;
+    private Path snapshotPath;
+    private ScheduledExecutorService snapshotSaver;
+    private Thread snapshotHook; // 종료할 때 저장하는 훅. 연결을 끊을 때 함께 제거합니다.
+
+    public EvaluationCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(WAYS, capacity));
+        keys = new AtomicLongArray(size);
+        data = new AtomicLongArray(size);
+        referenced = new byte[size];
+        hands = new byte[size / WAYS];
+        bucketMask = size / WAYS - 1;
+    }
+
+    public static EvaluationCache shared() {
+        return SHARED;
+    }
+
+    // 데이터 비트 배치: [63..32] 점수 | [10..1] 수+1 | [0] 항상 1(빈 칸과 구분)
+    private static long pack(int score, int move) {
+        return ((long) score << 32) | ((long) (move + 1) << 1) | 1L;
+    }
+
+    public static int scoreOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    public static int moveOf(long entry) {
+        return (int) ((entry >> 1) & 0x3FF) - 1;
+    }
+
+    // 키에 해당하는 데이터를 반환합니다. 없으면 0을 반환합니다.
+    public long probe(long key) {
+        int base = bucketOf(key);
+        for (int slot = base; slot < base + WAYS; slot++) {
+            long entry = data.get(slot);
+            if (entry != 0 && (keys.get(slot) ^ entry) == key) {
+                referenced[slot] = 1;
+                hits.increment();
+                return entry;
+            }
+        }
+        CacheSnapshot saved = snapshot;
+        if (saved != null && saved.acquire()) {
+            long entry = 0L;
+            try {
+                for (int slot = base; slot < base + WAYS && entry == 0; slot++) {
+                    entry = saved.probe(slot, key);
+                }
+            } finally {
+                saved.release();
+            }
+            if (entry != 0) {
+                insert(base, key, entry);
+                hits.increment();
+                snapshotHits.increment();
+                return entry;
+            }
+        }
+        misses.increment();
+        return 0L;
+    }
+
+    public void store(long key, int score, int move) {
+        stores.increment();
+        insert(bucketOf(key), key, pack(score, move));
+    }
+
+    private void insert(int base, long key, long entry) {
+        // 같은 키나 빈 칸이 있으면 그 자리에, 없으면 CLOCK 바늘을 돌려 참조 표시가 없는 항목을 교체합니다.
+        int slot = -1;
+        for (int s = base; s < base + WAYS; s++) {
+            long existing = data.get(s);
+            if (existing == 0 || (keys.get(s) ^ existing) == key) {
+                slot = s;
+                break;
+            }
+        }
+        if (slot == -1) {
+            int bucket = base / WAYS;
+            int hand = hands[bucket];
+            for (int n = 0; n < WAYS * 2; n++) {
+                int candidate = base + hand;
+                hand = (hand + 1) & (WAYS - 1);
+                if (referenced[candidate] == 0 || n == WAYS * 2 - 1) {
+                    slot = candidate;
+                    break;
+                }
+                referenced[candidate] = 0;
+            }
+            hands[bucket] = (byte) hand;
+            evictions.increment();
+        }
+
+        referenced[slot] = 0;
+        data.set(slot, entry);
+        keys.set(slot, key ^ entry);
+    }
+
+    private int bucketOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * WAYS;
+    }
+
+    // 비우면 스냅숏에서도 더 찾지 않고 매핑을 해제합니다.
+    public synchronized void clear() {
+        CacheSnapshot previous = snapshot;
+        snapshot = null;
+        if (previous != null) {
+            previous.close();
+        }
+        for (int i = 0; i < data.length(); i++) {
+            data.set(i, 0L);
+            keys.set(i, 0L);
+            referenced[i] = 0;
+        }
+    }
+
+    // 스냅숏 파일을 연결합니다. 파일이 있으면 바로 매핑해 조회에 쓰고, 종료할 때와 intervalSeconds초마다
+    // (0 이하이면 종료할 때만) 현재 내용을 그 파일에 저장합니다. 파일이 없거나 쓸 수 없으면 저장할 때 새로 만듭니다.
+    public synchronized void attachSnapshot(Path path, long intervalSeconds) {
+        if (snapshotPath != null) {
+            throw new IllegalStateException("이미 스냅숏 파일이 연결되어 있습니다: " + snapshotPath);
+        }
+        snapshotPath = path;
+        snapshot = CacheSnapshot.open(path, getCapacity(), MinimaxSearcher.sharedKeyFingerprint());
+        if (intervalSeconds > 0) {
+            snapshotSaver = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "cache-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotSaver.scheduleWithFixedDelay(this::saveSnapshotQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+        snapshotHook = new Thread(this::saveSnapshotQuietly, "cache-snapshot-final");
+        Runtime.getRuntime().addShutdownHook(snapshotHook);
+    }
+
+    // 스냅숏 파일과의 연결을 끊습니다. 주기 저장과 종료 시 저장을 멈추고 매핑을 해제하므로, 이후에는 파일을
+    // 지우거나 다른 캐시에 다시 연결할 수 있습니다. 저장은 하지 않으므로 필요하면 먼저 saveSnapshot을 호출합니다.
+    public synchronized void detachSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        if (snapshotSaver != null) {
+            snapshotSaver.shutdownNow();
+            snapshotSaver = null;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(snapshotHook);
+        } catch (IllegalStateException e) {
+            // 이미 종료 중이면 훅이 실행되고 있으므로 그대로 둡니다.
+        }
+        snapshotHook = null;
+        snapshotPath = null;
+        CacheSnapshot previous = snapshot;
+        snapshot = null;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    // 현재 내용을 연결된 스냅숏 파일에 저장합니다. 주기 저장과 종료 시 저장이 겹치지 않도록 동기화합니다.
+    // 매핑된 파일은 (Windows에서) 바꿔치울 수 없으므로 임시 파일을 다 쓴 뒤 이전 매핑을 해제하고 파일을 바꾸며,
+    // 바꾼 파일을 다시 매핑해 이후 조회가 새 스냅숏을 보게 합니다. 바꾸지 못했으면 이전 파일을 다시 매핑합니다.
+    public synchronized void saveSnapshot() throws IOException {
+        if (snapshotPath == null) {
+            throw new IllegalStateException("연결된 스냅숏 파일이 없습니다.");
+        }
+        long fingerprint = MinimaxSearcher.sharedKeyFingerprint();
+        CacheSnapshot previous = snapshot;
+        Path temp = CacheSnapshot.writeTemp(snapshotPath, this, previous, fingerprint);
+        snapshot = null;
+        if (previous != null) {
+            previous.close();
+        }
+        try {
+            CacheSnapshot.replace(temp, snapshotPath);
+        } finally {
+            snapshot = CacheSnapshot.open(snapshotPath, getCapacity(), fingerprint);
+        }
+    }
+
+    // 연결을 끊는 동안 기다리던 주기 저장은 저장할 파일이 없으므로 건너뜁니다.
+    private synchronized void saveSnapshotQuietly() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            saveSnapshot();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("평가 캐시 스냅숏을 저장하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    long keyWordAt(int slot) {
+        return keys.get(slot);
+    }
+
+    long dataWordAt(int slot) {
+        return data.get(slot);
+    }
+
+    public int getCapacity() {
+        return data.length();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getSnapshotHits() {
+        return snapshotHits.sum();
+    }
+
+    @Override
+    public String toString() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return String.format("평가 캐시: 용량 %,d, 적중 %,d / 조회 %,d (%.1f%%, 스냅숏 %,d), 저장 %,d, 교체 %,d",
+                getCapacity(), hit, total, total == 0 ? 0.0 : hit * 100.0 / total, getSnapshotHits(),
+                getStores(), getEvictions());
+    }
+}
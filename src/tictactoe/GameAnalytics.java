@@ -0,0 +1,436 @@
+package tictactoe;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 끝난 게임과 AI의 수마다 들어오는 이벤트를 받아 3×3 게임 통계를 누적하는 스트리밍 집계기.
+// 카테고리(난이도나 전략 이름)마다 고정 크기 long 배열 하나에 다음을 셉니다.
+//   - 결과(X 승/O 승/무승부)와 AI 기준 결과(승/패/무승부), 게임 길이별 게임 수
+//   - 오프닝 트리: 처음 세 수까지의 수순마다 결과별 게임 수
+//   - 칸 기여도: 몇 번째 수로 어느 칸에 두었을 때 그 수를 둔 쪽이 이기고/지고/비긴 게임 수
+// AI가 수를 고른 시간은 카테고리별 LatencyHistogram에 모읍니다.
+// 게임을 몇 개 받든 메모리는 카테고리 수에만 비례하고, 이벤트를 받을 때 객체를 만들지 않습니다.
+// 카운터는 원자적으로 더하므로 여러 스레드(게임 서버의 작업 스레드, 화면 스레드)가 동시에 기록할 수 있습니다.
+// 통계는 saveSnapshot으로 작은 바이너리 파일(0이 많은 카운터를 가변 길이 정수로 기록)에 저장하며,
+// tictactoe.analytics.snapshot 시스템 속성에 파일을 지정하면 공유 집계기가 그 파일에서 이어 세고
+// tictactoe.analytics.interval초(기본 60초)마다와 종료할 때 저장합니다.
+final class GameAnalytics {
+    static final int CELLS = 9;
+    static final int OPENING_DEPTH = 3;
+    // 카테고리가 이보다 많아지면 마지막 카테고리("기타")에 합칩니다.
+    static final int MAX_CATEGORIES = 32;
+    static final String OTHER_CATEGORY = "기타";
+
+    private static final int MAGIC = 0x54545441; // "TTTA"
+    private static final int VERSION = 1;
+
+    // 카테고리 카운터 배열의 배치
+    private static final int RESULTS = 0;                     // GameRecordWriter 결과 코드(무승부, X 승, O 승) 순
+    private static final int AI_RESULTS = RESULTS + 3;        // AI 승, AI 패, 무승부 (AI 심볼을 알 때만)
+    private static final int LENGTHS = AI_RESULTS + 3;        // 수의 개수(0~9)별 게임 수
+    private static final int OPENINGS = LENGTHS + CELLS + 1;  // 오프닝 노드마다 결과 코드별 게임 수
+    private static final int[] OPENING_OFFSETS = {0, CELLS, CELLS + CELLS * CELLS}; // 깊이별 첫 노드 번호
+    private static final int OPENING_NODES = CELLS + CELLS * CELLS + CELLS * CELLS * CELLS;
+    private static final int CELL_PLY = OPENINGS + OPENING_NODES * 3; // [수 번호][칸][둔 쪽 기준 승, 패, 무]
+    private static final int COUNTERS = CELL_PLY + CELLS * CELLS * 3;
+
+    private static final int WIN = 0;
+    private static final int LOSS = 1;
+    private static final int DRAW = 2;
+
+    private static final GameAnalytics SHARED = new GameAnalytics();
+    static {
+        String snapshotFile = System.getProperty("tictactoe.analytics.snapshot");
+        if (snapshotFile != null) {
+            SHARED.attachSnapshot(Paths.get(snapshotFile), Long.getLong("tictactoe.analytics.interval", 60));
+        }
+    }
+
+    private final ConcurrentHashMap<String, Integer> categoryIds = new ConcurrentHashMap<>();
+    private final String[] names = new String[MAX_CATEGORIES];
+    private final AtomicLongArray[] counters = new AtomicLongArray[MAX_CATEGORIES];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[MAX_CATEGORIES];
+    private volatile int categoryCount;
+
+    private Path snapshotPath;
+    private ScheduledExecutorService snapshotSaver;
+
+    public static GameAnalytics shared() {
+        return SHARED;
+    }
+
+    // 카테고리 번호. 처음 보는 이름이면 등록합니다.
+    int categoryOf(String name) {
+        Integer id = categoryIds.get(name);
+        return id != null ? id : register(name);
+    }
+
+    private synchronized int register(String name) {
+        Integer id = categoryIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        int next = categoryCount;
+        if (next >= MAX_CATEGORIES - 1 && !OTHER_CATEGORY.equals(name)) {
+            id = register(OTHER_CATEGORY);
+            categoryIds.put(name, id);
+            return id;
+        }
+        names[next] = name;
+        counters[next] = new AtomicLongArray(COUNTERS);
+        latencies[next] = new LatencyHistogram();
+        categoryIds.put(name, next);
+        categoryCount = next + 1;
+        return next;
+    }
+
+    // 끝난 게임 하나를 집계합니다. moves는 GameSession의 기보처럼 수마다 4비트씩 순서대로 담은 값이고,
+    // result는 GameRecordWriter의 결과 코드, aiSymbol은 AI가 둔 쪽(두 쪽 모두 AI이거나 모르면 Board.EMPTY)입니다.
+    public void recordGame(String category, long moves, int moveCount, int result, char aiSymbol) {
+        if (moveCount < 0 || moveCount > CELLS || result < 0 || result > 2) {
+            throw new IllegalArgumentException("집계할 수 없는 게임입니다: 수 " + moveCount + "개, 결과 " + result);
+        }
+        AtomicLongArray c = counters[categoryOf(category)];
+        c.incrementAndGet(RESULTS + result);
+        if (aiSymbol != Board.EMPTY) {
+            c.incrementAndGet(AI_RESULTS + outcomeFor(aiSymbol == 'X', result));
+        }
+        c.incrementAndGet(LENGTHS + moveCount);
+
+        int prefix = 0;
+        for (int ply = 0; ply < moveCount; ply++) {
+            int cell = (int) (moves >>> (4 * ply)) & 0x0F;
+            if (cell >= CELLS) {
+                throw new IllegalArgumentException("3×3 보드의 칸이 아닙니다: " + cell);
+            }
+            if (ply < OPENING_DEPTH) {
+                prefix = prefix * CELLS + cell;
+                c.incrementAndGet(OPENINGS + (OPENING_OFFSETS[ply] + prefix) * 3 + result);
+            }
+            c.incrementAndGet(CELL_PLY + (ply * CELLS + cell) * 3 + outcomeFor(ply % 2 == 0, result));
+        }
+    }
+
+    // AI가 수 하나를 고르는 데 걸린 시간을 기록합니다.
+    public void recordMove(String category, long nanos) {
+        LatencyHistogram histogram = latencies[categoryOf(category)];
+        synchronized (histogram) {
+            histogram.record(nanos);
+        }
+    }
+
+    // 수 배열을 recordGame이 받는 4비트 묶음으로 바꿉니다.
+    static long pack(int[] moves, int moveCount) {
+        long packed = 0;
+        for (int i = 0; i < moveCount; i++) {
+            packed |= (long) moves[i] << (4 * i);
+        }
+        return packed;
+    }
+
+    // X(선공)인지와 결과 코드로 그쪽의 승/패/무를 구합니다.
+    private static int outcomeFor(boolean isX, int result) {
+        if (result == GameRecordWriter.RESULT_DRAW) {
+            return DRAW;
+        }
+        return (result == GameRecordWriter.RESULT_X_WIN) == isX ? WIN : LOSS;
+    }
+
+    public long getGameCount(String category) {
+        Integer id = categoryIds.get(category);
+        if (id == null) {
+            return 0;
+        }
+        AtomicLongArray c = counters[id];
+        return c.get(RESULTS) + c.get(RESULTS + 1) + c.get(RESULTS + 2);
+    }
+
+    // 스냅숏 파일을 연결합니다. 파일이 있으면 그 통계에서 이어 세고, 읽을 수 없으면 알리고 새로 시작합니다.
+    // intervalSeconds초마다(0 이하이면 종료할 때만) 현재 통계를 그 파일에 저장합니다.
+    public synchronized void attachSnapshot(Path path, long intervalSeconds) {
+        if (snapshotPath != null) {
+            throw new IllegalStateException("이미 통계 스냅숏 파일이 연결되어 있습니다: " + snapshotPath);
+        }
+        snapshotPath = path;
+        if (Files.isRegularFile(path)) {
+            try {
+                merge(load(path));
+            } catch (IOException e) {
+                System.err.println("게임 통계 스냅숏을 읽지 못해 새로 집계합니다: " + e.getMessage());
+            }
+        }
+        if (intervalSeconds > 0) {
+            snapshotSaver = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "analytics-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotSaver.scheduleWithFixedDelay(this::saveSnapshotQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::saveSnapshotQuietly, "analytics-snapshot-final"));
+    }
+
+    private void saveSnapshotQuietly() {
+        try {
+            saveSnapshot(snapshotPath);
+        } catch (IOException e) {
+            System.err.println("게임 통계 스냅숏을 저장하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // 다른 집계 결과를 더합니다.
+    public void merge(GameAnalytics other) {
+        for (int id = 0; id < other.categoryCount; id++) {
+            int target = categoryOf(other.names[id]);
+            AtomicLongArray from = other.counters[id];
+            for (int i = 0; i < COUNTERS; i++) {
+                long value = from.get(i);
+                if (value != 0) {
+                    counters[target].addAndGet(i, value);
+                }
+            }
+            LatencyHistogram copy = copyOf(other.latencies[id]);
+            synchronized (latencies[target]) {
+                latencies[target].merge(copy);
+            }
+        }
+    }
+
+    private static LatencyHistogram copyOf(LatencyHistogram histogram) {
+        LatencyHistogram copy = new LatencyHistogram();
+        synchronized (histogram) {
+            copy.merge(histogram);
+        }
+        return copy;
+    }
+
+    // 현재 통계를 저장합니다. 임시 파일에 쓴 뒤 이름을 바꾸므로 도중에 중단되어도 이전 스냅숏은 남습니다.
+    // 구성: [MAGIC "TTTA"][VERSION][저장 시각][카테고리 수], 카테고리마다 이름, 카운터(가변 길이 정수),
+    //       0이 아닌 지연 시간 구간 수와 (구간, 개수) 쌍, 지연 시간 합계와 최댓값
+    public synchronized void saveSnapshot(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            int count = categoryCount;
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(count);
+            for (int id = 0; id < count; id++) {
+                out.writeUTF(names[id]);
+                AtomicLongArray c = counters[id];
+                for (int i = 0; i < COUNTERS; i++) {
+                    writeVarLong(out, c.get(i));
+                }
+                LatencyHistogram histogram = copyOf(latencies[id]);
+                int used = 0;
+                for (int b = 0; b < LatencyHistogram.getBucketCount(); b++) {
+                    if (histogram.getBucket(b) != 0) {
+                        used++;
+                    }
+                }
+                writeVarLong(out, used);
+                for (int b = 0; b < LatencyHistogram.getBucketCount(); b++) {
+                    if (histogram.getBucket(b) != 0) {
+                        writeVarLong(out, b);
+                        writeVarLong(out, histogram.getBucket(b));
+                    }
+                }
+                writeVarLong(out, histogram.getTotalNanos());
+                writeVarLong(out, histogram.getMaxNanos());
+            }
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static GameAnalytics load(Path path) throws IOException {
+        GameAnalytics analytics = new GameAnalytics();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("게임 통계 스냅숏 형식이 올바르지 않습니다.");
+            }
+            in.readLong(); // 저장 시각
+            int count = in.readInt();
+            if (count < 0 || count > MAX_CATEGORIES) {
+                throw new IOException("카테고리 수가 올바르지 않습니다: " + count);
+            }
+            for (int n = 0; n < count; n++) {
+                int id = analytics.categoryOf(in.readUTF());
+                AtomicLongArray c = analytics.counters[id];
+                for (int i = 0; i < COUNTERS; i++) {
+                    c.addAndGet(i, readVarLong(in));
+                }
+                LatencyHistogram histogram = analytics.latencies[id];
+                long used = readVarLong(in);
+                for (long k = 0; k < used; k++) {
+                    long bucket = readVarLong(in);
+                    if (bucket >= LatencyHistogram.getBucketCount()) {
+                        throw new IOException("지연 시간 구간이 올바르지 않습니다: " + bucket);
+                    }
+                    histogram.restoreBucket((int) bucket, readVarLong(in));
+                }
+                histogram.restoreTotals(readVarLong(in), readVarLong(in));
+            }
+        }
+        return analytics;
+    }
+
+    // 음이 아닌 정수를 7비트씩 나눠 씁니다. 대부분 0인 카운터는 1바이트가 됩니다.
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수가 너무 깁니다.");
+    }
+
+    // 카테고리별 결과, 첫 수와 자주 나온 세 수 오프닝, 칸별 기여도, AI 응답 시간을 출력합니다.
+    public void report(PrintStream out) {
+        for (int id = 0; id < categoryCount; id++) {
+            AtomicLongArray c = counters[id];
+            long xWins = c.get(RESULTS + GameRecordWriter.RESULT_X_WIN);
+            long oWins = c.get(RESULTS + GameRecordWriter.RESULT_O_WIN);
+            long draws = c.get(RESULTS + GameRecordWriter.RESULT_DRAW);
+            long games = xWins + oWins + draws;
+            long totalMoves = 0;
+            for (int n = 0; n <= CELLS; n++) {
+                totalMoves += n * c.get(LENGTHS + n);
+            }
+            out.printf("[%s] 게임 %,d개 | X 승 %,d | O 승 %,d | 무승부 %,d | 평균 %.2f수%n",
+                    names[id], games, xWins, oWins, draws, games == 0 ? 0.0 : (double) totalMoves / games);
+            long aiGames = c.get(AI_RESULTS + WIN) + c.get(AI_RESULTS + LOSS) + c.get(AI_RESULTS + DRAW);
+            if (aiGames > 0) {
+                out.printf("  AI 기준: 승 %.1f%% | 패 %.1f%% | 무 %.1f%%%n",
+                        percent(c.get(AI_RESULTS + WIN), aiGames), percent(c.get(AI_RESULTS + LOSS), aiGames),
+                        percent(c.get(AI_RESULTS + DRAW), aiGames));
+            }
+
+            StringBuilder firstMoves = new StringBuilder("  첫 수별 게임 수(X 승률):");
+            for (int cell = 0; cell < CELLS; cell++) {
+                long n = openingGames(c, cell);
+                if (n > 0) {
+                    firstMoves.append(String.format(" %d=%,d(%.0f%%)", cell, n,
+                            percent(c.get(OPENINGS + cell * 3 + GameRecordWriter.RESULT_X_WIN), n)));
+                }
+            }
+            out.println(firstMoves);
+            reportTopOpenings(out, c, 5);
+
+            // 칸에 둔 수 가운데 그 수를 둔 쪽이 결국 이긴 비율
+            StringBuilder cells = new StringBuilder("  칸별 승리 기여율:");
+            for (int cell = 0; cell < CELLS; cell++) {
+                long wins = 0;
+                long plays = 0;
+                for (int ply = 0; ply < CELLS; ply++) {
+                    int base = CELL_PLY + (ply * CELLS + cell) * 3;
+                    wins += c.get(base + WIN);
+                    plays += c.get(base + WIN) + c.get(base + LOSS) + c.get(base + DRAW);
+                }
+                cells.append(String.format(" %d=%.1f%%", cell, percent(wins, plays)));
+            }
+            out.println(cells);
+
+            LatencyHistogram latency = copyOf(latencies[id]);
+            if (latency.getCount() > 0) {
+                out.printf("  AI 응답 시간(us): %,d수, 평균 %.1f, p50 %.1f, p99 %.1f, 최대 %.1f%n",
+                        latency.getCount(), latency.getMeanNanos() / 1e3, latency.getPercentileNanos(50) / 1e3,
+                        latency.getPercentileNanos(99) / 1e3, latency.getMaxNanos() / 1e3);
+            }
+        }
+    }
+
+    // 깊이 OPENING_DEPTH의 노드 중 게임 수가 많은 limit개를 출력합니다. 보고할 때만 쓰므로 매번 훑어도 충분합니다.
+    private static void reportTopOpenings(PrintStream out, AtomicLongArray c, int limit) {
+        int first = OPENING_OFFSETS[OPENING_DEPTH - 1];
+        int width = CELLS * CELLS * CELLS;
+        long previous = Long.MAX_VALUE;
+        int previousNode = -1;
+        for (int rank = 0; rank < limit; rank++) {
+            int best = -1;
+            long bestGames = 0;
+            for (int node = 0; node < width; node++) {
+                long n = openingGames(c, first + node);
+                boolean after = n < previous || (n == previous && node > previousNode);
+                if (after && n > bestGames) {
+                    best = node;
+                    bestGames = n;
+                }
+            }
+            if (best == -1) {
+                return;
+            }
+            int index = OPENINGS + (first + best) * 3;
+            out.printf("  오프닝 %d-%d-%d: %,d게임, X 승 %.1f%% | O 승 %.1f%% | 무 %.1f%%%n",
+                    best / (CELLS * CELLS), best / CELLS % CELLS, best % CELLS, bestGames,
+                    percent(c.get(index + GameRecordWriter.RESULT_X_WIN), bestGames),
+                    percent(c.get(index + GameRecordWriter.RESULT_O_WIN), bestGames),
+                    percent(c.get(index + GameRecordWriter.RESULT_DRAW), bestGames));
+            previous = bestGames;
+            previousNode = best;
+        }
+    }
+
+    private static long openingGames(AtomicLongArray c, int node) {
+        int index = OPENINGS + node * 3;
+        return c.get(index) + c.get(index + 1) + c.get(index + 2);
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0.0 : part * 100.0 / total;
+    }
+
+    // 사용법: GameAnalytics <통계 스냅숏>                    저장된 통계를 출력
+    //         GameAnalytics replay <기보 파일> [통계 스냅숏]   기보 파일 전체를 집계해 출력(하고 저장)
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || (args[0].equals("replay") && args.length < 2)) {
+            System.err.println("사용법: GameAnalytics <통계 스냅숏> | GameAnalytics replay <기보 파일> [통계 스냅숏]");
+            return;
+        }
+        if (!args[0].equals("replay")) {
+            load(Paths.get(args[0])).report(System.out);
+            return;
+        }
+
+        GameAnalytics analytics = new GameAnalytics();
+        String category = "기보 " + Paths.get(args[1]).getFileName();
+        long start = System.nanoTime();
+        long games = GameRecordReader.forEach(Paths.get(args[1]), (index, result, moves, moveCount) ->
+                analytics.recordGame(category, pack(moves, moveCount), moveCount, result, Board.EMPTY));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("게임 %,d개 집계 (%.2f초, 초당 %,.0f게임)%n", games, seconds, games / Math.max(seconds, 1e-9));
+        analytics.report(System.out);
+        if (args.length > 2) {
+            analytics.saveSnapshot(Paths.get(args[2]));
+            System.out.println("통계 저장: " + args[2] + " (" + Files.size(Paths.get(args[2])) + "바이트)");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// GameRecordWriter가 만든 기보 파일을 메모리 매핑으로 읽습니다.
+// 게임마다 객체를 만들지 않고 하나의 int 배열에 수를 풀어 방문자에게 넘기므로 수백만 게임도 할당 없이 훑을 수 있습니다.
+// 파일이 크면 최대 WINDOW_BYTES씩 나눠 매핑하고, 창 끝에 걸친 기록은 그 위치부터 다시 매핑해서 읽습니다.
+// 마지막 기록이 쓰다 만 상태(프로그램이 도중에 종료됨)이면 그 기록은 건너뜁니다.
+class GameRecordReader {
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    @FunctionalInterface
+    interface GameVisitor {
+        // moves 배열은 다음 게임에서 재사용되므로, 보관하려면 복사해야 합니다.
+        void visit(long index, int result, int[] moves, int moveCount);
+    }
+
+    private GameRecordReader() {
+    }
+
+    // 파일의 모든 게임을 순서대로 방문하고 게임 수를 반환합니다.
+    static long forEach(Path path, GameVisitor visitor) throws IOException {
+        int[] moves = new int[GameRecordWriter.MAX_CELLS];
+        long index = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            GameRecordWriter.checkHeader(channel);
+            long size = channel.size();
+            long position = GameRecordWriter.HEADER_BYTES;
+
+            while (position < size) {
+                long length = Math.min(WINDOW_BYTES, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int offset = 0;
+                while (offset < length) {
+                    int header = window.get(offset) & 0xFF;
+                    int count = header & 0x0F;
+                    int recordBytes = 1 + (count + 1) / 2;
+                    if (offset + recordBytes > length) {
+                        break;
+                    }
+                    for (int i = 0; i < count; i++) {
+                        int packed = window.get(offset + 1 + i / 2) & 0xFF;
+                        moves[i] = (i % 2 == 0) ? packed & 0x0F : packed >>> 4;
+                    }
+                    visitor.visit(index++, header >>> 4, moves, count);
+                    offset += recordBytes;
+                }
+                if (offset == 0) {
+                    break; // 창 하나에 기록 하나도 못 들어감 = 파일 끝의 쓰다 만 기록
+                }
+                position += offset;
+            }
+        }
+        return index;
+    }
+
+    // 사용법: GameRecordReader <기보 파일>
+    // 결과별 게임 수, 평균 수의 개수, 첫 수 위치별 게임 수와 X 승률을 출력합니다.
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : TicTacToeGame.RECORD_FILE);
+        long[] results = new long[3];
+        long[] firstMoves = new long[GameRecordWriter.MAX_CELLS];
+        long[] firstMoveXWins = new long[GameRecordWriter.MAX_CELLS];
+        long[] totalMoves = new long[1];
+
+        long start = System.nanoTime();
+        long games = forEach(path, (index, result, moves, moveCount) -> {
+            results[Math.min(result, 2)]++;
+            totalMoves[0] += moveCount;
+            if (moveCount > 0) {
+                firstMoves[moves[0]]++;
+                if (result == GameRecordWriter.RESULT_X_WIN) {
+                    firstMoveXWins[moves[0]]++;
+                }
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("게임 %,d개 (%.2f초, 초당 %,.0f게임)%n", games, seconds, games / Math.max(seconds, 1e-9));
+        System.out.printf("X 승 %,d | O 승 %,d | 무승부 %,d | 평균 %.2f수%n",
+                results[GameRecordWriter.RESULT_X_WIN], results[GameRecordWriter.RESULT_O_WIN],
+                results[GameRecordWriter.RESULT_DRAW], games == 0 ? 0.0 : (double) totalMoves[0] / games);
+        for (int cell = 0; cell < firstMoves.length; cell++) {
+            if (firstMoves[cell] > 0) {
+                System.out.printf("첫 수 %d: %,d게임, X 승률 %.1f%%%n",
+                        cell, firstMoves[cell], firstMoveXWins[cell] * 100.0 / firstMoves[cell]);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 끝난 게임을 이어 붙이는 이진 기보 파일(.ttr) 작성기.
+// 파일은 8바이트 머리(MAGIC, VERSION)와 게임 기록들로 이루어집니다. 게임 하나는
+//   1바이트: [7..4] 결과(0 무승부, 1 X 승, 2 O 승) | [3..0] 수의 개수
+//   (수의 개수 + 1) / 2 바이트: 수마다 칸 번호 4비트(먼저 둔 수가 하위 4비트, 남는 자리는 0xF)
+// 로 3×3 게임 하나가 최대 6바이트입니다. X가 항상 먼저 두므로 누가 둔 수인지는 순서로 알 수 있습니다.
+// 기록은 직접 메모리 버퍼에 모았다가 버퍼가 차거나 flush를 호출할 때 한 번에 씁니다. 여러 스레드가 함께 쓸 수 있습니다.
+// 기존 파일에 이어 쓸 때는 쓰다 만 마지막 기록(프로그램이 도중에 종료됨)을 잘라 내고, 완전한 기록 뒤부터 씁니다.
+class GameRecordWriter implements AutoCloseable {
+    static final int MAGIC = 0x54545447; // "TTTG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RESULT_DRAW = 0;
+    static final int RESULT_X_WIN = 1;
+    static final int RESULT_O_WIN = 2;
+    // 칸 번호와 수의 개수가 4비트에 들어가야 하므로 칸이 15개 이하인 보드(3×3)만 기록할 수 있습니다.
+    static final int MAX_CELLS = 15;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long gameCount;
+
+    public GameRecordWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                buffer.putInt(MAGIC).putInt(VERSION);
+            } else {
+                checkHeader(channel);
+                long end = completeLength(channel, buffer);
+                if (end < channel.size()) {
+                    channel.truncate(end);
+                }
+                channel.position(end);
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static void checkHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // 머리를 끝까지 읽습니다.
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("기보 파일 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 머리 뒤로 완전한 기록이 끝나는 위치. 마지막 기록의 수가 모자라면 그 기록의 시작 위치를 반환합니다.
+    // 파일을 chunk 크기씩 읽으며, 조각 끝에 걸친 기록은 다음 조각에서 그 기록의 시작부터 다시 읽습니다.
+    static long completeLength(FileChannel channel, ByteBuffer chunk) throws IOException {
+        long size = channel.size();
+        long position = HEADER_BYTES;
+        while (position < size) {
+            chunk.clear();
+            while (chunk.hasRemaining() && channel.read(chunk, position + chunk.position()) > 0) {
+                // 조각을 채우거나 파일 끝까지 읽습니다.
+            }
+            chunk.flip();
+            int offset = 0;
+            while (offset < chunk.limit()) {
+                int recordBytes = 1 + ((chunk.get(offset) & 0x0F) + 1) / 2;
+                if (offset + recordBytes > chunk.limit()) {
+                    break;
+                }
+                offset += recordBytes;
+            }
+            if (offset == 0) {
+                break; // 남은 바이트로는 기록 하나도 완성되지 않음 = 파일 끝의 쓰다 만 기록
+            }
+            position += offset;
+        }
+        return position;
+    }
+
+    static int resultOf(char winner) {
+        return winner == 'X' ? RESULT_X_WIN : winner == 'O' ? RESULT_O_WIN : RESULT_DRAW;
+    }
+
+    // moves[0..count)를 둔 순서대로, winner는 이긴 심볼(무승부면 Board.EMPTY)입니다.
+    public synchronized void write(int[] moves, int count, char winner) {
+        if (count < 0 || count >= MAX_CELLS) {
+            throw new IllegalArgumentException("기록할 수 없는 수의 개수입니다: " + count);
+        }
+        if (buffer.remaining() < 1 + (count + 1) / 2) {
+            drain();
+        }
+        buffer.put((byte) ((resultOf(winner) << 4) | count));
+        for (int i = 0; i < count; i += 2) {
+            int low = cellOf(moves[i]);
+            int high = (i + 1 < count) ? cellOf(moves[i + 1]) : 0x0F;
+            buffer.put((byte) ((high << 4) | low));
+        }
+        gameCount++;
+    }
+
+    private static int cellOf(int move) {
+        if (move < 0 || move >= MAX_CELLS) {
+            throw new IllegalArgumentException("기록할 수 없는 칸 번호입니다: " + move);
+        }
+        return move;
+    }
+
+    public synchronized void flush() {
+        drain();
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("기보를 기록하지 못했습니다.", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package tictactoe;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// GameService를 JDK 내장 HTTP 서버로 노출합니다. 응답 본문은 모두 JSON입니다.
+//   POST   /sessions?difficulty=HARD&symbol=X   새 게임 (symbol은 플레이어 심볼)
+//   GET    /sessions/{id}                       현재 상태
+//   POST   /sessions/{id}/move?cell=4           플레이어의 수 + AI의 응수
+//   POST   /sessions/{id}/reset                 점수를 유지한 채 새 판
+//   DELETE /sessions/{id}                       게임 종료
+// 요청 처리 스레드는 AI 작업 풀과 별도로 두어, AI 계산이 몰려도 조회와 종료 요청은 바로 처리됩니다.
+class GameServer implements AutoCloseable {
+    private static final String PREFIX = "/sessions";
+
+    // 응답 헤더와 본문이 따로 전송되므로, Nagle 알고리즘이 켜져 있으면 지연 ACK와 겹쳐 요청마다 약 40ms가 더해집니다.
+    // JDK HTTP 서버는 이 값을 처음 생성될 때 한 번만 읽으므로 클래스 초기화 시점에 설정합니다.
+    static {
+        System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final GameService service;
+    private final HttpServer server;
+    private final ExecutorService requestThreads;
+
+    public GameServer(GameService service, int port, int requestThreadCount) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.requestThreads = Executors.newFixedThreadPool(requestThreadCount);
+        server.setExecutor(requestThreads);
+        server.createContext(PREFIX, this::handle);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = 200;
+        String body;
+        try {
+            body = route(exchange.getRequestMethod(), exchange.getRequestURI());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e.getMessage());
+        } catch (NoSuchElementException e) {
+            status = 404;
+            body = error(e.getMessage());
+        } catch (InvalidMoveException e) {
+            status = 409;
+            body = error(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            status = 503;
+            body = error("서버가 바쁩니다. 잠시 후 다시 시도하세요.");
+        } catch (IllegalStateException e) {
+            status = 503;
+            body = error(e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("요청 처리 중 오류가 발생했습니다: " + e.getMessage());
+            status = 500;
+            body = error("서버 내부 오류");
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String route(String method, URI uri) {
+        String[] parts = uri.getPath().substring(PREFIX.length()).split("/");
+        String query = uri.getRawQuery();
+
+        // parts[0]은 항상 "/sessions" 뒤의 빈 문자열입니다.
+        if (parts.length <= 1) {
+            requireMethod(method, "POST");
+            String symbol = param(query, "symbol", "X");
+            if (symbol.length() != 1) {
+                throw new IllegalArgumentException("심볼은 X 또는 O여야 합니다: " + symbol);
+            }
+            return service.createSession(param(query, "difficulty", "MEDIUM"), Character.toUpperCase(symbol.charAt(0)));
+        }
+
+        long id = parseNumber(parts[1]);
+        if (parts.length == 2) {
+            if ("DELETE".equals(method)) {
+                return "{\"removed\":" + service.remove(id) + "}";
+            }
+            requireMethod(method, "GET");
+            return service.getSession(id);
+        }
+        requireMethod(method, "POST");
+        switch (parts[2]) {
+            case "move":
+                return service.play(id, (int) parseNumber(param(query, "cell", "")));
+            case "reset":
+                return service.reset(id);
+            default:
+                throw new NoSuchElementException("알 수 없는 경로입니다: " + uri.getPath());
+        }
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!expected.equals(method)) {
+            throw new IllegalArgumentException(expected + " 요청이어야 합니다: " + method);
+        }
+    }
+
+    private static long parseNumber(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + text);
+        }
+    }
+
+    private static String param(String query, String name, String defaultValue) {
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                    return pair.substring(eq + 1);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + String.valueOf(message).replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        requestThreads.shutdownNow();
+        service.close();
+    }
+
+    // 사용법: GameServer [포트] [AI 작업 스레드 수] [세션 유휴 제한(초)] [최대 세션 수] [기보 파일]
+    // 예) java -cp target/classes tictactoe.GameServer 8080 8 600 1000000 server.ttr
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long idleSeconds = args.length > 2 ? Long.parseLong(args[2]) : 600;
+        int maxSessions = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+
+        GameService service = new GameService(workers, workers * 64, idleSeconds * 1000, maxSessions);
+        if (args.length > 4) {
+            // 기보는 버퍼가 찰 때마다 쓰고, 서버가 종료될 때 남은 기록을 마저 씁니다.
+            GameRecordWriter writer = new GameRecordWriter(Paths.get(args[4]));
+            service.setRecordWriter(writer);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    System.err.println("기보 파일을 닫지 못했습니다: " + e.getMessage());
+                }
+            }, "record-writer-close"));
+        }
+        GameServer server = new GameServer(service, port, workers * 2);
+        server.start();
+        System.out.println("게임 서버 시작: http://127.0.0.1:" + server.getPort() + PREFIX
+                + " (AI 작업 스레드 " + workers + ", 유휴 제한 " + idleSeconds + "초)");
+    }
+}
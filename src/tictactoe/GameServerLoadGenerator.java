@@ -0,0 +1,156 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게임 서버의 용량을 재는 도구.
+// 1) 세션 밀도: 세션을 대량으로 만든 뒤 힙 증가량으로 세션당 바이트와 1GB당 세션 수를 계산합니다.
+// 2) 처리량: 로컬 HTTP 서버에 여러 클라이언트가 임의의 수를 두며 대국해 초당 수와 응답 지연 분포를 측정합니다.
+class GameServerLoadGenerator {
+    private static final long GIGABYTE = 1L << 30;
+
+    // 사용법: GameServerLoadGenerator [세션 수] [클라이언트 수] [측정 시간(초)] [난이도]
+    // 예) java -cp target/classes tictactoe.GameServerLoadGenerator 200000 32 10 HARD
+    public static void main(String[] args) throws Exception {
+        int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        String difficulty = args.length > 3 ? args[3] : "HARD";
+
+        measureDensity(sessionCount, difficulty);
+        measureThroughput(clients, seconds, difficulty);
+    }
+
+    private static void measureDensity(int sessionCount, String difficulty) {
+        int workers = Runtime.getRuntime().availableProcessors();
+        try (GameService service = new GameService(workers, workers * 64, Long.MAX_VALUE / 4, Integer.MAX_VALUE)) {
+            // 플레이어가 X이면 AI 계산 없이 세션만 만들어지므로 순수한 세션 크기를 잴 수 있습니다.
+            service.createSession(difficulty, 'X');
+            long before = usedHeap();
+            for (int i = 0; i < sessionCount; i++) {
+                service.createSession(difficulty, 'X');
+            }
+            long after = usedHeap();
+
+            double bytesPerSession = Math.max(1, after - before) / (double) sessionCount;
+            System.out.printf("세션 %,d개: 세션당 %.1f바이트, 1GB당 약 %,d개%n",
+                    service.getSessionCount(), bytesPerSession, (long) (GIGABYTE / bytesPerSession));
+        }
+    }
+
+    private static void measureThroughput(int clients, int seconds, String difficulty)
+            throws IOException, InterruptedException {
+        int workers = Runtime.getRuntime().availableProcessors();
+        GameService service = new GameService(workers, clients * 2, 60_000, Integer.MAX_VALUE);
+        try (GameServer server = new GameServer(service, 0, clients)) {
+            server.start();
+            String base = "http://127.0.0.1:" + server.getPort() + "/sessions";
+            HttpClient http = HttpClient.newHttpClient();
+            LatencyHistogram[] latencies = new LatencyHistogram[clients];
+            AtomicLong errors = new AtomicLong();
+            long end = System.currentTimeMillis() + seconds * 1000L;
+
+            List<Thread> threads = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < clients; c++) {
+                LatencyHistogram latency = new LatencyHistogram();
+                latencies[c] = latency;
+                Thread thread = new Thread(() -> runClient(http, base, difficulty, end, latency, errors));
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            LatencyHistogram total = new LatencyHistogram();
+            for (LatencyHistogram latency : latencies) {
+                total.merge(latency);
+            }
+            System.out.printf("클라이언트 %d개, %.1f초: 요청 %,d건, 초당 수 %,.0f, 오류 %d건%n",
+                    clients, elapsedSeconds, total.getCount(), service.getMovesPlayed() / elapsedSeconds, errors.get());
+            System.out.printf("응답 지연: p50 %.2fms, p99 %.2fms, p99.9 %.2fms, 최대 %.2fms%n",
+                    total.getPercentileNanos(50) / 1e6, total.getPercentileNanos(99) / 1e6,
+                    total.getPercentileNanos(99.9) / 1e6, total.getMaxNanos() / 1e6);
+            System.out.println(EvaluationCache.shared());
+        }
+    }
+
+    // 한 클라이언트가 게임을 만들고, 끝날 때까지 빈 칸 중 하나를 골라 두고, 끝나면 새 판을 시작합니다.
+    private static void runClient(HttpClient http, String base, String difficulty, long end,
+                                  LatencyHistogram latency, AtomicLong errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            String state = send(http, base + "?difficulty=" + difficulty + "&symbol=" + (random.nextBoolean() ? 'X' : 'O'),
+                    "POST", latency);
+            long id = Long.parseLong(field(state, "id"));
+            while (System.currentTimeMillis() < end) {
+                if (!"PLAYING".equals(field(state, "status"))) {
+                    state = send(http, base + "/" + id + "/reset", "POST", latency);
+                    continue;
+                }
+                String board = field(state, "board");
+                int cell;
+                do {
+                    cell = random.nextInt(board.length());
+                } while (board.charAt(cell) != '.');
+                state = send(http, base + "/" + id + "/move?cell=" + cell, "POST", latency);
+                if (state.contains("\"error\"")) {
+                    errors.incrementAndGet();
+                    state = send(http, base + "/" + id, "GET", latency);
+                }
+            }
+            send(http, base + "/" + id, "DELETE", latency);
+        } catch (IOException | RuntimeException e) {
+            errors.incrementAndGet();
+            System.err.println("부하 클라이언트 오류: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String send(HttpClient http, String url, String method, LatencyHistogram latency)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        long start = System.nanoTime();
+        String body = http.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        latency.record(System.nanoTime() - start);
+        return body;
+    }
+
+    // GameSession.toJson()이 만드는 평평한 JSON에서 값 하나를 꺼냅니다.
+    private static String field(String json, String name) {
+        String key = "\"" + name + "\":";
+        int start = json.indexOf(key);
+        if (start < 0) {
+            throw new IllegalStateException("응답에 " + name + " 값이 없습니다: " + json);
+        }
+        start += key.length();
+        if (json.charAt(start) == '"') {
+            return json.substring(start + 1, json.indexOf('"', start + 1));
+        }
+        int end = start;
+        while (end < json.length() && json.charAt(end) != ',' && json.charAt(end) != '}') {
+            end++;
+        }
+        return json.substring(start, end);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
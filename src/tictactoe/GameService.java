@@ -0,0 +1,280 @@
+package tictactoe;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 여러 플레이어의 게임을 동시에 관리하는 서비스. 전송 방식(HTTP 등)과 분리되어 있습니다.
+// - 세션은 ConcurrentHashMap에 보관하고, 일정 시간 요청이 없으면 주기적으로 제거합니다.
+// - AI 계산은 스레드 수와 대기열 크기가 정해진 작업 풀에서 실행하며, 대기열이 가득 차면 요청을 거절합니다.
+// - MinimaxAI는 스레드 간에 공유할 수 없으므로 작업 스레드마다 난이도×심볼 조합별 AI를 하나씩 만들어 재사용합니다.
+// - 플레이어의 수는 AI의 응수를 받은 뒤에 응수와 함께 세션에 저장합니다. AI 계산이 거절되거나 시간을 넘기면
+//   세션은 플레이어의 수를 두기 전 상태로 남으므로, 같은 요청을 다시 보내면 이어서 진행할 수 있습니다.
+class GameService implements AutoCloseable {
+    private static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD"};
+
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    // 만들고 있거나 만들어진 세션 수. 동시에 들어온 요청이 함께 한도를 넘지 않도록 세션을 넣기 전에 자리를 먼저 잡습니다.
+    private final AtomicInteger reservedSessions = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicLong movesPlayed = new AtomicLong();
+    private final AtomicLong evictedSessions = new AtomicLong();
+    private final ThreadPoolExecutor aiWorkers;
+    private final ScheduledExecutorService evictor;
+    private final ThreadLocal<AIStrategy[]> workerStrategies;
+    private final long idleTimeoutMillis;
+    private final long aiTimeLimitMillis;
+    private final int maxSessions;
+    private final GameAnalytics analytics = GameAnalytics.shared();
+    private volatile GameRecordWriter recordWriter; // null이 아니면 끝난 게임을 기보로 남깁니다.
+
+    public GameService(int workerThreads, int queueCapacity, long idleTimeoutMillis, int maxSessions) {
+        this(workerThreads, queueCapacity, idleTimeoutMillis, maxSessions, 1000, GameService::createStrategies);
+    }
+
+    // strategies는 작업 스레드마다 한 번 호출되며, 난이도×심볼 순서(EASY의 X, EASY의 O, MEDIUM의 X, ...)의 배열을 반환합니다.
+    GameService(int workerThreads, int queueCapacity, long idleTimeoutMillis, int maxSessions,
+            long aiTimeLimitMillis, Supplier<AIStrategy[]> strategies) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxSessions = maxSessions;
+        this.aiTimeLimitMillis = aiTimeLimitMillis;
+        this.workerStrategies = ThreadLocal.withInitial(strategies);
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.aiWorkers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "ai-worker-" + workerNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleTimeoutMillis / 2);
+        evictor.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void setRecordWriter(GameRecordWriter recordWriter) {
+        this.recordWriter = recordWriter;
+    }
+
+    private static AIStrategy[] createStrategies() {
+        AIStrategy[] strategies = new AIStrategy[DIFFICULTIES.length * 2];
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            StrategyFactory factory = StrategyFactory.forDifficulty(DIFFICULTIES[d]);
+            strategies[d * 2] = factory.create('X', 'O');
+            strategies[d * 2 + 1] = factory.create('O', 'X');
+        }
+        return strategies;
+    }
+
+    private static int difficultyIndex(String difficulty) {
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            if (DIFFICULTIES[d].equalsIgnoreCase(difficulty)) {
+                return d;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 난이도입니다: " + difficulty);
+    }
+
+    // 새 게임을 만들고, 플레이어가 O(후공)이면 AI의 첫 수까지 둔 상태로 반환합니다.
+    public String createSession(String difficulty, char humanSymbol) {
+        if (humanSymbol != 'X' && humanSymbol != 'O') {
+            throw new IllegalArgumentException("심볼은 X 또는 O여야 합니다: " + humanSymbol);
+        }
+        String name = DIFFICULTIES[difficultyIndex(difficulty)];
+        reserveSession();
+        GameSession session = new GameSession(nextId.getAndIncrement(), name, humanSymbol);
+        sessions.put(session.getId(), session);
+        synchronized (session) {
+            try {
+                playAIIfNeeded(session, session.toBoard());
+            } catch (RuntimeException e) {
+                // 만들어지지 못한 게임의 번호는 응답으로 나가지 않으므로 남겨 두지 않습니다.
+                remove(session.getId());
+                throw e;
+            }
+            return session.toJson();
+        }
+    }
+
+    private void reserveSession() {
+        int reserved;
+        do {
+            reserved = reservedSessions.get();
+            if (reserved >= maxSessions) {
+                throw new IllegalStateException("동시에 진행할 수 있는 게임 수(" + maxSessions + ")를 넘었습니다.");
+            }
+        } while (!reservedSessions.compareAndSet(reserved, reserved + 1));
+    }
+
+    // 새 판을 시작할 때 AI의 첫 수가 실패해 AI 차례로 남은 세션이면, 조회할 때 AI의 수를 다시 시도합니다.
+    public String getSession(long id) {
+        GameSession session = find(id);
+        synchronized (session) {
+            playAIIfNeeded(session, session.toBoard());
+            return session.toJson();
+        }
+    }
+
+    // 플레이어의 수를 두고, 게임이 끝나지 않았다면 AI의 응수까지 둔 결과를 반환합니다.
+    // AI 계산이 실패하면 플레이어의 수도 저장하지 않고 예외를 던집니다.
+    public String play(long id, int cell) {
+        GameSession session = find(id);
+        synchronized (session) {
+            playAIIfNeeded(session, session.toBoard());
+            if (session.getStatus() != GameSession.PLAYING) {
+                throw new InvalidMoveException("이미 끝난 게임입니다.");
+            }
+            if (session.getSideToMove() != session.getHumanSymbol()) {
+                throw new InvalidMoveException("플레이어의 차례가 아닙니다.");
+            }
+            Board board = session.toBoard();
+            if (cell < 0 || cell >= board.getCellCount() || !board.makeMove(cell, session.getHumanSymbol())) {
+                throw new InvalidMoveException("둘 수 없는 칸(" + cell + ")입니다.");
+            }
+            if (board.checkWinner() != Board.EMPTY || board.isFull()) {
+                movesPlayed.incrementAndGet();
+                session.update(board, cell, false);
+                recordIfFinished(session);
+                return session.toJson();
+            }
+
+            int reply = requestAIMove(session, board);
+            movesPlayed.incrementAndGet();
+            session.update(board, cell, false);
+            applyAIMove(session, board, reply);
+            return session.toJson();
+        }
+    }
+
+    // 점수는 유지한 채 새 판을 시작합니다.
+    public String reset(long id) {
+        GameSession session = find(id);
+        synchronized (session) {
+            session.reset();
+            playAIIfNeeded(session, session.toBoard());
+            return session.toJson();
+        }
+    }
+
+    public boolean remove(long id) {
+        if (sessions.remove(id) == null) {
+            return false;
+        }
+        reservedSessions.decrementAndGet();
+        return true;
+    }
+
+    private GameSession find(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            throw new NoSuchElementException("게임(" + id + ")을 찾을 수 없습니다.");
+        }
+        session.touch();
+        return session;
+    }
+
+    // AI 차례이면 작업 풀에서 수를 계산해 둡니다. 세션 잠금은 호출한 쪽에서 잡고 있습니다.
+    private void playAIIfNeeded(GameSession session, Board board) {
+        if (session.getStatus() != GameSession.PLAYING || session.getSideToMove() != session.getAISymbol()) {
+            return;
+        }
+        applyAIMove(session, board, requestAIMove(session, board));
+    }
+
+    // board에서 AI가 둘 수를 작업 풀에 맡겨 받아 옵니다. 보드와 세션은 바꾸지 않습니다.
+    // 대기열이 가득 차면 RejectedExecutionException을, 시간 초과나 중단, 계산 오류는 IllegalStateException을 던집니다.
+    private int requestAIMove(GameSession session, Board board) {
+        Board position = board.clone();
+        int index = difficultyIndex(session.getDifficulty()) * 2 + (session.getAISymbol() == 'X' ? 0 : 1);
+        long deadline = System.currentTimeMillis() + aiTimeLimitMillis;
+        // 시간을 넘긴 계산은 취소 뒤에도 잠시 이어질 수 있으므로 복사한 보드를 넘깁니다.
+        Future<Integer> future = aiWorkers.submit(() -> workerStrategies.get()[index].makeMove(position, deadline));
+
+        long start = System.nanoTime();
+        int move;
+        try {
+            move = future.get(aiTimeLimitMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 계산이 중단되었습니다.", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("AI 계산 시간이 초과되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI 계산 중 오류가 발생했습니다.", e.getCause());
+        }
+
+        if (move < 0 || move >= board.getCellCount() || !board.isEmpty(move)) {
+            throw new InvalidMoveException("AI가 둘 수 있는 유효한 수를 찾지 못했습니다. (makeMove가 " + move + " 반환)");
+        }
+        analytics.recordMove(session.getDifficulty(), System.nanoTime() - start);
+        return move;
+    }
+
+    private void applyAIMove(GameSession session, Board board, int move) {
+        board.makeMove(move, session.getAISymbol());
+        movesPlayed.incrementAndGet();
+        session.update(board, move, true);
+        recordIfFinished(session);
+    }
+
+    // 끝난 판은 통계에 더하고, 기보 파일이 있으면 기록합니다.
+    private void recordIfFinished(GameSession session) {
+        if (session.getStatus() == GameSession.PLAYING) {
+            return;
+        }
+        analytics.recordGame(session.getDifficulty(), session.getMoveLog(), session.getMoveCount(),
+                GameRecordWriter.resultOf(session.getWinner()), session.getAISymbol());
+        GameRecordWriter writer = recordWriter;
+        if (writer != null) {
+            session.writeRecord(writer);
+        }
+    }
+
+    // idleTimeoutMillis 동안 요청이 없었던 세션을 제거합니다.
+    int evictIdleSessions() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        int evicted = 0;
+        for (GameSession session : sessions.values()) {
+            // 그 사이 다른 요청이 지운 세션은 자리를 두 번 돌려주지 않도록 실제로 지운 것만 셉니다.
+            if (session.getLastAccessMillis() < cutoff && sessions.remove(session.getId(), session)) {
+                reservedSessions.decrementAndGet();
+                evicted++;
+            }
+        }
+        evictedSessions.addAndGet(evicted);
+        return evicted;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getMovesPlayed() {
+        return movesPlayed.get();
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions.get();
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        aiWorkers.shutdownNow();
+    }
+}
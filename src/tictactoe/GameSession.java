@@ -0,0 +1,143 @@
+package tictactoe;
+
+// 서버에서 한 플레이어가 진행 중인 게임. 수천 개가 동시에 메모리에 머무르므로
+// 보드는 심볼별 9비트 마스크 두 개로만 저장하고, 수를 두거나 AI에게 넘길 때만 Board로 풀어서 사용합니다.
+// 기보용 수 순서는 수마다 4비트씩 long 하나(moveLog)에 담습니다.
+// 모든 변경은 GameService가 세션 객체를 잠근 상태에서 수행합니다.
+class GameSession {
+    static final byte PLAYING = 0;
+    static final byte HUMAN_WON = 1;
+    static final byte AI_WON = 2;
+    static final byte DRAW = 3;
+    private static final String[] STATUS_NAMES = {"PLAYING", "HUMAN_WON", "AI_WON", "DRAW"};
+
+    private final long id;
+    private final String difficulty;
+    private final char humanSymbol;
+    private int xMask;
+    private int oMask;
+    private long moveLog;
+    private byte status;
+    private int humanScore;
+    private int aiScore;
+    private int lastAIMove = -1;
+    private volatile long lastAccessMillis;
+
+    GameSession(long id, String difficulty, char humanSymbol) {
+        this.id = id;
+        this.difficulty = difficulty;
+        this.humanSymbol = humanSymbol;
+        touch();
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String getDifficulty() {
+        return difficulty;
+    }
+
+    char getHumanSymbol() {
+        return humanSymbol;
+    }
+
+    char getAISymbol() {
+        return humanSymbol == 'X' ? 'O' : 'X';
+    }
+
+    byte getStatus() {
+        return status;
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    // X가 먼저 두므로 두 심볼의 돌 수가 같으면 X의 차례입니다.
+    char getSideToMove() {
+        return Integer.bitCount(xMask) == Integer.bitCount(oMask) ? 'X' : 'O';
+    }
+
+    Board toBoard() {
+        Board board = new Board();
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            int bit = 1 << cell;
+            if ((xMask & bit) != 0) {
+                board.makeMove(cell, 'X');
+            } else if ((oMask & bit) != 0) {
+                board.makeMove(cell, 'O');
+            }
+        }
+        return board;
+    }
+
+    // move를 둔 뒤의 보드를 저장하고 승패를 갱신합니다.
+    void update(Board board, int move, boolean byAI) {
+        moveLog |= (long) move << (4 * getMoveCount());
+        xMask = (int) board.getBits('X', 0);
+        oMask = (int) board.getBits('O', 0);
+        if (byAI) {
+            lastAIMove = move;
+        }
+
+        char winner = board.checkWinner();
+        if (winner == humanSymbol) {
+            status = HUMAN_WON;
+            humanScore++;
+        } else if (winner != Board.EMPTY) {
+            status = AI_WON;
+            aiScore++;
+        } else if (board.isFull()) {
+            status = DRAW;
+        }
+    }
+
+    int getMoveCount() {
+        return Integer.bitCount(xMask) + Integer.bitCount(oMask);
+    }
+
+    // 끝난 게임을 기보로 남깁니다.
+    void writeRecord(GameRecordWriter writer) {
+        int count = getMoveCount();
+        int[] moves = new int[count];
+        for (int i = 0; i < count; i++) {
+            moves[i] = (int) (moveLog >>> (4 * i)) & 0x0F;
+        }
+        writer.write(moves, count, getWinner());
+    }
+
+    char getWinner() {
+        return status == HUMAN_WON ? humanSymbol : status == AI_WON ? getAISymbol() : Board.EMPTY;
+    }
+
+    // 수마다 4비트씩 순서대로 담은 이번 판의 수순
+    long getMoveLog() {
+        return moveLog;
+    }
+
+    // 점수는 유지하고 보드만 비웁니다.
+    void reset() {
+        xMask = 0;
+        oMask = 0;
+        moveLog = 0;
+        status = PLAYING;
+        lastAIMove = -1;
+    }
+
+    String toJson() {
+        StringBuilder cells = new StringBuilder(9);
+        for (int cell = 0; cell < 9; cell++) {
+            int bit = 1 << cell;
+            cells.append((xMask & bit) != 0 ? 'X' : (oMask & bit) != 0 ? 'O' : '.');
+        }
+        return String.format(
+                "{\"id\":%d,\"difficulty\":\"%s\",\"human\":\"%c\",\"board\":\"%s\",\"status\":\"%s\","
+                + "\"aiMove\":%d,\"humanScore\":%d,\"aiScore\":%d}",
+                id, difficulty, humanSymbol, cells, STATUS_NAMES[status], lastAIMove, humanScore, aiScore);
+    }
+}
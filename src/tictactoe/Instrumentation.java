@@ -0,0 +1,103 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// AI 탐색 지표 수집의 진입점. 시스템 속성으로 켜고 끕니다.
+//   -Dtictactoe.metrics=true             지표 수집 (기본값 false: 전략을 감싸지 않으므로 추가 비용이 없습니다)
+//   -Dtictactoe.metrics.interval=60      지표를 출력하는 주기(초)
+//   -Dtictactoe.metrics.csv=metrics.csv  지정하면 주기마다 표준 출력 대신 이 파일에 CSV 행을 덧붙입니다.
+//   -Dtictactoe.metrics.trace=1000       전략마다 최근 수 몇 개의 탐색 기록을 남길지 (JMX getRecentTrace, 기본값 0)
+// 지표는 전략 이름별로 하나씩 만들어 JMX(tictactoe:type=SearchMetrics,name=<이름>)에 등록합니다.
+final class Instrumentation {
+    static final boolean ENABLED = Boolean.getBoolean("tictactoe.metrics");
+    private static final long INTERVAL_SECONDS = Long.getLong("tictactoe.metrics.interval", 60);
+    private static final String CSV_PATH = System.getProperty("tictactoe.metrics.csv");
+    private static final int TRACE_CAPACITY = Integer.getInteger("tictactoe.metrics.trace", 0);
+
+    private static final ConcurrentHashMap<String, SearchMetrics> METRICS = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService reporter;
+
+    private Instrumentation() {
+    }
+
+    // 지표 수집이 켜져 있으면 전략을 감싸서, 꺼져 있으면 그대로 반환합니다.
+    static AIStrategy wrap(AIStrategy strategy) {
+        if (!ENABLED || strategy instanceof InstrumentedStrategy) {
+            return strategy;
+        }
+        return new InstrumentedStrategy(strategy, metricsFor(strategy.getName()));
+    }
+
+    static SearchMetrics metricsFor(String strategyName) {
+        return METRICS.computeIfAbsent(strategyName, name -> {
+            SearchMetrics metrics = new SearchMetrics(name, TRACE_CAPACITY);
+            register(metrics);
+            startReporter();
+            return metrics;
+        });
+    }
+
+    private static void register(SearchMetrics metrics) {
+        try {
+            ObjectName objectName = new ObjectName("tictactoe:type=SearchMetrics,name="
+                    + ObjectName.quote(metrics.getStrategyName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+        } catch (JMException e) {
+            System.err.println("탐색 지표를 JMX에 등록하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private static synchronized void startReporter() {
+        if (reporter != null || INTERVAL_SECONDS <= 0) {
+            return;
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(Instrumentation::report, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+        // 주기보다 짧게 끝나는 실행(자가 대국 등)도 마지막 지표가 남도록 종료할 때 한 번 더 기록합니다.
+        Runtime.getRuntime().addShutdownHook(new Thread(Instrumentation::report, "metrics-final-report"));
+    }
+
+    // 모든 전략의 현재 지표를 CSV 파일(설정된 경우)이나 표준 출력에 한 번 기록합니다.
+    static void report() {
+        long now = System.currentTimeMillis();
+        if (CSV_PATH == null) {
+            for (SearchMetrics metrics : METRICS.values()) {
+                System.out.println(metrics);
+            }
+            return;
+        }
+
+        Path path = Paths.get(CSV_PATH);
+        try {
+            boolean newFile = !Files.exists(path) || Files.size(path) == 0;
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                if (newFile) {
+                    out.println(SearchMetrics.CSV_HEADER);
+                }
+                for (SearchMetrics metrics : METRICS.values()) {
+                    out.println(metrics.toCsvRow(now));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("탐색 지표를 기록하지 못했습니다: " + e.getMessage());
+        }
+    }
+}
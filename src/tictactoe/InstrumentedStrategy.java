@@ -0,0 +1,49 @@
+package tictactoe;
+
+// 다른 전략을 감싸 수마다 걸린 시간과 탐색 지표를 SearchMetrics에 기록합니다.
+// 직접 만들지 않고 Instrumentation.wrap으로 얻으며, 지표 수집이 꺼져 있으면 감싸지 않은 전략이 그대로 쓰입니다.
+class InstrumentedStrategy implements AIStrategy {
+    private final AIStrategy delegate;
+    private final SearchMetrics metrics;
+
+    InstrumentedStrategy(AIStrategy delegate, SearchMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public int makeMove(Board board) {
+        long start = System.nanoTime();
+        int move = delegate.makeMove(board);
+        record(board, move, System.nanoTime() - start);
+        return move;
+    }
+
+    @Override
+    public int makeMove(Board board, long deadlineMillis) {
+        long start = System.nanoTime();
+        int move = delegate.makeMove(board, deadlineMillis);
+        record(board, move, System.nanoTime() - start);
+        return move;
+    }
+
+    // 노드 수 등 탐색 지표는 MinimaxAI만 제공합니다. MctsAI는 플레이아웃 수를 따로 기록하고,
+    // 다른 전략은 시간만 기록합니다.
+    private void record(Board board, int move, long nanos) {
+        if (delegate instanceof MinimaxAI) {
+            MinimaxAI ai = (MinimaxAI) delegate;
+            metrics.record(board.getEmptyCount(), move, nanos, ai.getNodeCount(), 0, ai.getCompletedDepth(),
+                    ai.getCutoffCount(), ai.getTableHitCount(), ai.getSharedHitCount(), ai.isBookMove());
+        } else if (delegate instanceof MctsAI) {
+            metrics.record(board.getEmptyCount(), move, nanos, 0, ((MctsAI) delegate).getPlayoutCount(), 0, 0, 0, 0,
+                    false);
+        } else {
+            metrics.record(board.getEmptyCount(), move, nanos, 0, 0, 0, 0, 0, 0, false);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package tictactoe;
+
 
 public class InvalidMoveException extends RuntimeException {
     public InvalidMoveException(String message) {
@@ -0,0 +1,115 @@
+package tictactoe;
+
+// 나노초 단위 지연 시간을 고정 크기 배열에 모으는 히스토그램.
+// 2의 거듭제곱 구간마다 16개의 균등 구간으로 나누므로 상대 오차가 약 6% 이내이며,
+// 기록할 때 객체를 만들지 않아 수백만 번 기록해도 메모리가 늘지 않습니다. 스레드마다 하나씩 쓰고 merge로 합칩니다.
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(counts, 0L);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    // 스냅숏 저장용: 구간별 개수와 합계를 그대로 내보내고 되살립니다.
+    static int getBucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    long getBucket(int index) {
+        return counts[index];
+    }
+
+    long getTotalNanos() {
+        return totalNanos;
+    }
+
+    void restoreBucket(int index, long count) {
+        counts[index] += count;
+        totalCount += count;
+    }
+
+    void restoreTotals(long totalNanos, long maxNanos) {
+        this.totalNanos += totalNanos;
+        this.maxNanos = Math.max(this.maxNanos, maxNanos);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    // percentile(0~100)에 해당하는 값(구간의 상한)을 반환합니다.
+    public long getPercentileNanos(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(totalCount * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, target)) {
+                return Math.min(maxNanos, upperBoundOf(i));
+            }
+        }
+        return maxNanos;
+    }
+
+    // 값이 16보다 작으면 그대로, 크면 최상위 비트 아래 4비트까지를 하위 구간으로 써서 위치를 정합니다.
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> exponent) - SUB_BUCKETS;
+        return (exponent + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int index) {
+        int bucket = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (bucket == 0) {
+            return sub;
+        }
+        int exponent = bucket - 1;
+        if (exponent >= 58) {
+            return Long.MAX_VALUE;
+        }
+        return ((long) (SUB_BUCKETS + sub + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,376 @@
+package tictactoe;
+
+// 몬테카를로 트리 탐색(UCT) 전략. 분기 수가 커서 미니맥스로는 몇 수 앞도 보기 어려운 큰 보드용입니다.
+// - 노드는 생성할 때 크기를 정한 원시 타입 배열(노드 풀)에 저장하고, 한 노드의 자식들은 연속된 칸에 한꺼번에 만듭니다.
+//   풀이 가득 차면 더 이상 확장하지 않고 기존 트리 안에서 플레이아웃만 계속합니다.
+// - 트리를 내려갈 때는 루트에서 한 번 복제한 Board를 쓰고, 플레이아웃은 그 국면의 비트만 복사한 작은 배열 위에서
+//   무작위로 끝까지 둡니다. 해시나 주변 칸 정보를 갱신하지 않고 객체도 만들지 않습니다.
+// - makeMove(board)는 플레이아웃 횟수, makeMove(board, deadline)은 마감 시각(과 플레이아웃 횟수)으로 탐색량을 정합니다.
+// - 트리 재사용을 켜면 지난 수에서 고른 자식과 상대의 응수에 해당하는 손자 노드를 새 루트로 삼아 통계를 이어 씁니다.
+class MctsAI implements AIStrategy {
+    public static final int DEFAULT_PLAYOUTS = 20_000;
+    public static final int DEFAULT_NODE_CAPACITY = 1 << 18;
+    // UCT 탐험 상수(√2)
+    private static final double EXPLORATION = Math.sqrt(2.0);
+    // 시간 확인은 플레이아웃 64번마다 한 번만 합니다.
+    private static final int DEADLINE_CHECK_MASK = 63;
+    private static final int NO_NODE = -1;
+
+    private final String name = "MCTS AI";
+    private final char aiSymbol;
+    private final char playerSymbol;
+    private final int playoutBudget;
+    private final boolean reuseTree;
+
+    // 노드 풀: 노드로 들어오는 수, 첫 자식의 위치(-1이면 아직 확장 안 함), 자식 수, 방문 수,
+    // 그 수를 둔 쪽 기준 점수의 2배(승 2, 무 1, 패 0)
+    private final int[] cell;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] visits;
+    private final int[] score2;
+    private int nodeCount;
+    private int root = NO_NODE;
+
+    // 탐색 중 재사용하는 버퍼: 루트부터 지나온 노드, 플레이아웃의 빈 칸 목록과 심볼별 비트
+    private int[] path = new int[0];
+    private int[] emptyCells = new int[0];
+    private long[] playoutAI = new long[0];
+    private long[] playoutPlayer = new long[0];
+    private long randomState;
+
+    // 트리 재사용 판단용: 지난 탐색의 루트 국면(비트)과 그때 고른 자식
+    private long[] lastAIBits = new long[0];
+    private long[] lastPlayerBits = new long[0];
+    private int lastSize = -1;
+    private int lastWinLength = -1;
+    private int lastEmptyCount = -1;
+    private int chosenChild = NO_NODE;
+
+    private long playoutCount; // 마지막 makeMove 호출의 플레이아웃 수
+    private long reusedVisits; // 마지막 makeMove 호출에서 재사용한 루트의 방문 수
+
+    public MctsAI(char aiSymbol, char playerSymbol, int playoutBudget) {
+        this(aiSymbol, playerSymbol, playoutBudget, DEFAULT_NODE_CAPACITY, true);
+    }
+
+    public MctsAI(char aiSymbol, char playerSymbol, int playoutBudget, int nodeCapacity, boolean reuseTree) {
+        if (playoutBudget < 1 || nodeCapacity < 2) {
+            throw new IllegalArgumentException("플레이아웃 수와 노드 풀 크기가 올바르지 않습니다: "
+                    + playoutBudget + ", " + nodeCapacity);
+        }
+        this.aiSymbol = aiSymbol;
+        this.playerSymbol = playerSymbol;
+        this.playoutBudget = playoutBudget;
+        this.reuseTree = reuseTree;
+        cell = new int[nodeCapacity];
+        firstChild = new int[nodeCapacity];
+        childCount = new int[nodeCapacity];
+        visits = new int[nodeCapacity];
+        score2 = new int[nodeCapacity];
+        randomState = System.nanoTime() ^ ((long) System.identityHashCode(this) << 32) | 1L;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public long getPlayoutCount() {
+        return playoutCount;
+    }
+
+    public long getReusedVisits() {
+        return reusedVisits;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public int makeMove(Board board) {
+        return search(board, MinimaxSearcher.NO_DEADLINE);
+    }
+
+    @Override
+    public int makeMove(Board board, long deadlineMillis) {
+        return search(board, deadlineMillis);
+    }
+
+    private int search(Board board, long deadline) {
+        playoutCount = 0;
+        reusedVisits = 0;
+        if (board.checkWinner() != Board.EMPTY || board.isFull()) {
+            return -1;
+        }
+
+        Board work = board.clone();
+        prepareBuffers(work);
+        selectRoot(work);
+
+        for (int n = 0; n < playoutBudget; n++) {
+            if ((n & DEADLINE_CHECK_MASK) == DEADLINE_CHECK_MASK
+                    && (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted())) {
+                break;
+            }
+            runIteration(work);
+            playoutCount++;
+        }
+
+        // 가장 많이 방문한 자식(같으면 점수가 높은 자식)을 고릅니다.
+        int best = NO_NODE;
+        for (int c = firstChild[root]; c < firstChild[root] + childCount[root]; c++) {
+            if (best == NO_NODE || visits[c] > visits[best]
+                    || (visits[c] == visits[best] && score2[c] > score2[best])) {
+                best = c;
+            }
+        }
+        chosenChild = best;
+        rememberRoot(board);
+        if (best == NO_NODE) {
+            // 풀이 부족해 루트조차 확장하지 못한 경우: 첫 번째 후보 칸을 둡니다.
+            for (int i = 0; i < board.getCellCount(); i++) {
+                if (MinimaxSearcher.isCandidate(board, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return cell[best];
+    }
+
+    // 루트부터 UCT로 내려가 잎 노드를 확장하고, 무작위 플레이아웃 결과를 지나온 노드에 반영합니다.
+    private void runIteration(Board board) {
+        int node = root;
+        int depth = 0;
+        path[0] = root;
+
+        while (firstChild[node] != NO_NODE && board.checkWinner() == Board.EMPTY && !board.isFull()) {
+            node = selectChild(node);
+            board.makeMove(cell[node], sideToMove(depth));
+            path[++depth] = node;
+        }
+        // 한 번 이상 방문한 잎(또는 루트)만 확장해, 한 번 보고 끝나는 노드로 풀을 낭비하지 않습니다.
+        if ((visits[node] > 0 || node == root) && board.checkWinner() == Board.EMPTY && !board.isFull()
+                && expand(node, board)) {
+            node = selectChild(node);
+            board.makeMove(cell[node], sideToMove(depth));
+            path[++depth] = node;
+        }
+
+        char winner = playout(board, sideToMove(depth));
+
+        for (int d = depth; d >= 1; d--) {
+            board.undoMove(cell[path[d]]);
+        }
+        for (int d = 0; d <= depth; d++) {
+            int n = path[d];
+            visits[n]++;
+            char mover = (d % 2 == 1) ? aiSymbol : playerSymbol;
+            score2[n] += (winner == mover) ? 2 : (winner == Board.EMPTY) ? 1 : 0;
+        }
+    }
+
+    // 루트에서 depth 수를 둔 국면의 차례. 루트는 항상 AI의 차례입니다.
+    private char sideToMove(int depth) {
+        return (depth % 2 == 0) ? aiSymbol : playerSymbol;
+    }
+
+    // 방문하지 않은 자식이 있으면 그것을(무작위 위치부터 찾아서), 없으면 UCT 값이 가장 큰 자식을 고릅니다.
+    private int selectChild(int node) {
+        int first = firstChild[node];
+        int count = childCount[node];
+        int offset = nextInt(count);
+        for (int k = 0; k < count; k++) {
+            int c = first + (offset + k) % count;
+            if (visits[c] == 0) {
+                return c;
+            }
+        }
+
+        double logParent = Math.log(visits[node]);
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int c = first; c < first + count; c++) {
+            double value = score2[c] / (2.0 * visits[c]) + EXPLORATION * Math.sqrt(logParent / visits[c]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    // 후보 칸(큰 보드에서는 기존 돌 주변)마다 자식을 연속된 칸에 만듭니다. 풀이 부족하면 false를 반환합니다.
+    private boolean expand(int node, Board board) {
+        int count = 0;
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (MinimaxSearcher.isCandidate(board, i)) {
+                count++;
+            }
+        }
+        if (count == 0 || nodeCount + count > cell.length) {
+            return false;
+        }
+        firstChild[node] = nodeCount;
+        childCount[node] = count;
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (MinimaxSearcher.isCandidate(board, i)) {
+                initNode(nodeCount++, i);
+            }
+        }
+        return true;
+    }
+
+    private void initNode(int node, int move) {
+        cell[node] = move;
+        firstChild[node] = NO_NODE;
+        childCount[node] = 0;
+        visits[node] = 0;
+        score2[node] = 0;
+    }
+
+    // turn부터 빈 칸 중 하나를 무작위로 골라 번갈아 두며 승패가 날 때까지 진행합니다.
+    // 보드는 건드리지 않고 비트만 복사해서 두므로 되돌릴 필요가 없습니다.
+    private char playout(Board board, char turn) {
+        char winner = board.checkWinner();
+        if (winner != Board.EMPTY) {
+            return winner;
+        }
+
+        int empties = 0;
+        for (int w = 0; w < board.getWordCount(); w++) {
+            playoutAI[w] = board.getBits(aiSymbol, w);
+            playoutPlayer[w] = board.getBits(playerSymbol, w);
+            for (long bits = board.getEmptyBits(w); bits != 0; bits &= bits - 1) {
+                emptyCells[empties++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+
+        int size = board.getSize();
+        int winLength = board.getWinLength();
+        while (empties > 0) {
+            int k = nextInt(empties);
+            int move = emptyCells[k];
+            emptyCells[k] = emptyCells[--empties];
+            long[] stones = (turn == aiSymbol) ? playoutAI : playoutPlayer;
+            stones[move >>> 6] |= 1L << move;
+            if (completesLine(stones, move, size, winLength)) {
+                return turn;
+            }
+            turn = (turn == aiSymbol) ? playerSymbol : aiSymbol;
+        }
+        return Board.EMPTY;
+    }
+
+    // move를 지나는 네 방향(가로, 세로, 두 대각선)에 같은 돌이 winLength개 이어졌는지 확인합니다.
+    private static boolean completesLine(long[] stones, int move, int size, int winLength) {
+        int row = move / size;
+        int col = move % size;
+        return countLine(stones, row, col, 0, 1, size) >= winLength
+                || countLine(stones, row, col, 1, 0, size) >= winLength
+                || countLine(stones, row, col, 1, 1, size) >= winLength
+                || countLine(stones, row, col, 1, -1, size) >= winLength;
+    }
+
+    private static int countLine(long[] stones, int row, int col, int dr, int dc, int size) {
+        int count = 1;
+        for (int sign = -1; sign <= 1; sign += 2) {
+            int r = row + sign * dr;
+            int c = col + sign * dc;
+            while (r >= 0 && r < size && c >= 0 && c < size) {
+                int cell = r * size + c;
+                if ((stones[cell >>> 6] & (1L << cell)) == 0) {
+                    break;
+                }
+                count++;
+                r += sign * dr;
+                c += sign * dc;
+            }
+        }
+        return count;
+    }
+
+    // 지난 탐색에서 고른 수와 상대의 응수만 더해진 국면이면 해당 손자 노드를 루트로 이어 쓰고, 아니면 트리를 새로 만듭니다.
+    // 풀의 3/4 이상을 썼으면 재사용하지 않고 비웁니다.
+    private void selectRoot(Board board) {
+        int reused = reuseTree && nodeCount < cell.length / 4 * 3 ? findReusableRoot(board) : NO_NODE;
+        if (reused != NO_NODE) {
+            root = reused;
+            reusedVisits = visits[root];
+            return;
+        }
+        nodeCount = 0;
+        root = nodeCount++;
+        initNode(root, -1);
+    }
+
+    private int findReusableRoot(Board board) {
+        if (chosenChild == NO_NODE || firstChild[chosenChild] == NO_NODE || board.getSize() != lastSize
+                || board.getWinLength() != lastWinLength || board.getEmptyCount() != lastEmptyCount - 2) {
+            return NO_NODE;
+        }
+        int reply = -1;
+        for (int w = 0; w < board.getWordCount(); w++) {
+            long ai = board.getBits(aiSymbol, w);
+            long player = board.getBits(playerSymbol, w);
+            if ((lastAIBits[w] & ~ai) != 0 || (lastPlayerBits[w] & ~player) != 0) {
+                return NO_NODE;
+            }
+            long addedAI = ai & ~lastAIBits[w];
+            long addedPlayer = player & ~lastPlayerBits[w];
+            if (addedAI != 0 && (addedAI != (1L << (cell[chosenChild] & 63)) || w != cell[chosenChild] >>> 6)) {
+                return NO_NODE;
+            }
+            if (addedPlayer != 0) {
+                if (reply != -1 || Long.bitCount(addedPlayer) != 1) {
+                    return NO_NODE;
+                }
+                reply = (w << 6) + Long.numberOfTrailingZeros(addedPlayer);
+            }
+        }
+        for (int c = firstChild[chosenChild]; c < firstChild[chosenChild] + childCount[chosenChild]; c++) {
+            if (cell[c] == reply) {
+                return c;
+            }
+        }
+        return NO_NODE;
+    }
+
+    private void rememberRoot(Board board) {
+        int words = board.getWordCount();
+        if (lastAIBits.length != words) {
+            lastAIBits = new long[words];
+            lastPlayerBits = new long[words];
+        }
+        for (int w = 0; w < words; w++) {
+            lastAIBits[w] = board.getBits(aiSymbol, w);
+            lastPlayerBits[w] = board.getBits(playerSymbol, w);
+        }
+        lastSize = board.getSize();
+        lastWinLength = board.getWinLength();
+        lastEmptyCount = board.getEmptyCount();
+    }
+
+    // 보드 크기가 바뀔 때만 버퍼를 다시 만듭니다.
+    private void prepareBuffers(Board board) {
+        int cells = board.getCellCount();
+        if (emptyCells.length != cells) {
+            path = new int[cells + 2];
+            emptyCells = new int[cells];
+            playoutAI = new long[board.getWordCount()];
+            playoutPlayer = new long[board.getWordCount()];
+            chosenChild = NO_NODE;
+        }
+    }
+
+    // xorshift64* 난수. java.util.Random과 달리 동기화와 할당이 없습니다.
+    private int nextInt(int bound) {
+        randomState ^= randomState >>> 12;
+        randomState ^= randomState << 25;
+        randomState ^= randomState >>> 27;
+        long value = (randomState * 0x2545F4914F6CDD1DL) >>> 32;
+        return (int) ((value * bound) >>> 32);
+    }
+}
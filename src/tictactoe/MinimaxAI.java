@@ -0,0 +1,370 @@
+package tictactoe;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MinimaxAI implements AIStrategy {
+    private String name;
+    private char aiSymbol;
+    private char playerSymbol;
+    private int maxDepth;
+    private boolean useAlphaBeta;
+    private long nodeCount; // 마지막 makeMove 호출에서 방문한 노드 수
+    private int completedDepth; // 마지막 makeMove 호출에서 끝까지 탐색한 깊이
+    private long cutoffCount; // 마지막 makeMove 호출에서 가지치기한 횟수
+    private long tableHitCount; // 마지막 makeMove 호출에서 치환표로 탐색을 끝낸 횟수
+    private long sharedHitCount; // 마지막 makeMove 호출에서 공유 캐시로 탐색을 끝낸 횟수
+    private long tablebaseHitCount; // 마지막 makeMove 호출에서 종반 표로 탐색을 끝낸 횟수
+    private boolean bookMove; // 마지막 수를 오프닝 북에서 찾았는지 여부
+    
+    // 3×3보다 큰 보드에서는 완전 탐색이 불가능하므로 이 깊이까지만 보고 휴리스틱으로 평가합니다.
+    private static final int LARGE_BOARD_DEPTH = 4;
+    private static final int TABLE_CAPACITY = 1 << 14;
+    // 루트 최고 기록이 아직 없음을 나타내는 값
+    private static final long NO_BEST = Long.MIN_VALUE;
+    // 스레드 수별로 하나씩 만들어 모든 MinimaxAI가 공유하는 작업 풀(데몬 스레드)
+    private static final ConcurrentHashMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+    
+    // 대칭으로 정규화한 국면의 탐색 결과. 인스턴스마다 크기가 고정되어 있어 게임이 많아도 메모리가 일정합니다.
+    private final TranspositionTable table = new TranspositionTable(TABLE_CAPACITY);
+    // 다른 MinimaxAI와 함께 쓰는 정확한 점수 캐시(기본값은 프로세스 전역 캐시)
+    private EvaluationCache sharedCache = EvaluationCache.shared();
+    // 종반 표. 직접 정하지 않으면 작업 디렉터리에서 보드 모양에 맞는 표 파일을 찾아 씁니다.
+    private EndgameTablebase tablebase;
+    private boolean useDefaultTablebase = true;
+    private final AtomicBoolean stopRequested = new AtomicBoolean();
+    private MinimaxSearcher[] searchers;
+    private int[] rootMoves = new int[0];
+    private int rootScore;
+    
+    // 루트 병렬 탐색에서 작업자들이 공유하는 상태: 다음에 탐색할 루트 수의 순번과 지금까지의 최고 기록
+    private final AtomicInteger nextRootMove = new AtomicInteger();
+    private final AtomicLong sharedBest = new AtomicLong();
+    
+    public MinimaxAI(char aiSymbol, char playerSymbol, int maxDepth) {
+        this(aiSymbol, playerSymbol, maxDepth, true);
+    }
+    
+    // useAlphaBeta가 false이면 가지치기 없이 모든 노드를 탐색하는 기존 미니맥스로 동작합니다.
+    // 두 방식은 항상 같은 수를 반환하므로 노드 수를 비교해 가지치기 효과를 확인할 수 있습니다.
+    public MinimaxAI(char aiSymbol, char playerSymbol, int maxDepth, boolean useAlphaBeta) {
+        this.aiSymbol = aiSymbol;
+        this.playerSymbol = playerSymbol;
+        this.maxDepth = maxDepth;
+        this.useAlphaBeta = useAlphaBeta;
+        this.name = generateName(maxDepth); 
+        setThreadCount(1);
+    }
+    
+    // maxDepth 값을 받아 난이도 이름을 설정합니다.
+    private String generateName(int depth) {
+        if (depth == TicTacToeGame.MEDIUM_DEPTH) {
+            return "중간 AI";
+        } else {
+            return "어려움 AI";
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    public long getNodeCount() {
+        return nodeCount;
+    }
+    
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+    
+    // 마지막 makeMove에서 고른 수의 점수(AI 기준). 양수면 이기는 수, 음수면 지는 수이며
+    // 승패가 정해진 경우 WIN_SCORE에서 승패까지 남은 수(루트의 수 다음부터 센 수)를 뺀 값입니다.
+    // 깊이 제한에 걸린 큰 보드에서는 휴리스틱 평가값입니다.
+    public int getLastScore() {
+        return rootScore;
+    }
+    
+    public long getCutoffCount() {
+        return cutoffCount;
+    }
+    
+    public long getTableHitCount() {
+        return tableHitCount;
+    }
+    
+    public long getSharedHitCount() {
+        return sharedHitCount;
+    }
+    
+    public long getTablebaseHitCount() {
+        return tablebaseHitCount;
+    }
+    
+    // 종반 표를 직접 정합니다. null이면 종반 표를 쓰지 않습니다.
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+        this.useDefaultTablebase = false;
+    }
+    
+    public boolean isBookMove() {
+        return bookMove;
+    }
+    
+    public int getThreadCount() {
+        return searchers.length;
+    }
+    
+    // 알파-베타 탐색에서 루트의 수들을 나눠 맡을 스레드 수를 정합니다(호출한 스레드 포함).
+    // 스레드 수와 상관없이 항상 단일 스레드 탐색과 같은 수를 반환합니다.
+    public void setThreadCount(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+        }
+        searchers = new MinimaxSearcher[threads];
+        for (int i = 0; i < threads; i++) {
+            searchers[i] = new MinimaxSearcher(aiSymbol, playerSymbol, table, sharedCache, stopRequested);
+        }
+    }
+    
+    // 공유 점수 캐시를 바꿉니다. null이면 이 AI는 자기 치환표만 사용합니다(벤치마크에서 탐색 비용만 잴 때 등).
+    public void setSharedCache(EvaluationCache cache) {
+        this.sharedCache = cache;
+        setThreadCount(searchers.length);
+    }
+    
+    // 지금까지 쌓인 탐색 기록(치환표)을 비웁니다. 같은 국면을 처음부터 다시 탐색해야 할 때 사용합니다.
+    public void clearTable() {
+        table.clear();
+    }
+    
+    // AI 턴: 미니맥스를 호출하여 최선의 수를 탐색합니다.
+    // 계산된 값은 결국 min 함수를 거치므로, AI는 반드시 최고의 점수를 얻는 것이 아니라, 
+    // 플레이어가 방해할 때 발생할 수 있는 최악의 상황을 고려하여
+    // ‘최대한 리스크를 피하면서 가장 나쁘지 않은 선택’을 하도록 움직입니다.
+    // 탐색용 보드는 루트에서 한 번만 복제하고, 이후에는 makeMove/undoMove로 같은 보드를 재사용합니다.
+    @Override
+    public int makeMove(Board board) {
+        int depth = MinimaxSearcher.isClassic(board) ? maxDepth : Math.min(maxDepth, LARGE_BOARD_DEPTH);
+        resetStats();
+        completedDepth = depth;
+        
+        if (useAlphaBeta) {
+            int move = lookupBook(board);
+            if (move != -1) {
+                return move;
+            }
+            begin(board, depth, MinimaxSearcher.NO_DEADLINE);
+            int result = searchRoot(depth, TranspositionTable.NO_MOVE);
+            collectStats();
+            return result;
+        }
+        
+        MinimaxSearcher searcher = searchers[0];
+        searcher.begin(board, depth, MinimaxSearcher.NO_DEADLINE, null);
+        searcher.setSearchDepth(depth);
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE; 
+        
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (MinimaxSearcher.isCandidate(board, i)) {
+                int score = searcher.minimaxRootMove(i);
+                
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = i;
+                }
+            }
+        }
+        
+        nodeCount += searcher.getNodeCount();
+        rootScore = bestMove == -1 ? 0 : bestScore;
+        return bestMove;
+    }
+    
+    // 시간 제한 탐색: 깊이 1부터 maxDepth까지 한 단계씩 깊게 탐색(반복 심화)하다가
+    // 마감 시각이 지나거나 스레드가 인터럽트되면 마지막으로 끝까지 마친 깊이의 수를 반환합니다.
+    // 이전 깊이의 최선의 수를 먼저 탐색하고 치환표와 히스토리를 그대로 이어 쓰므로 반복 비용이 크지 않습니다.
+    // 큰 보드에서도 고정 깊이 제한 대신 시간이 탐색 깊이를 결정합니다.
+    @Override
+    public int makeMove(Board board, long deadlineMillis) {
+        if (!useAlphaBeta) {
+            return makeMove(board);
+        }
+        
+        resetStats();
+        completedDepth = 0;
+        int move = lookupBook(board);
+        if (move != -1) {
+            return move;
+        }
+        
+        int limit = Math.max(1, Math.min(maxDepth, board.getEmptyCount()));
+        begin(board, limit, deadlineMillis);
+        
+        // 깊이 1조차 끝내지 못했을 때를 위한 대비책: 정렬상 가장 유망한 후보
+        int bestMove = searchers[0].orderRootMoves(TranspositionTable.NO_MOVE, rootMoves) > 0 ? rootMoves[0] : -1;
+        
+        for (int depth = 1; depth <= limit; depth++) {
+            int result = searchRoot(depth, bestMove);
+            if (result == -1) {
+                break;
+            }
+            bestMove = result;
+            completedDepth = depth;
+            // 강제 승리나 패배가 확인되면 더 깊이 봐도 결과가 바뀌지 않습니다.
+            if (Math.abs(rootScore) > MinimaxSearcher.WIN_THRESHOLD) {
+                break;
+            }
+        }
+        collectStats();
+        return bestMove;
+    }
+    
+    // 탐색 깊이가 남은 빈 칸을 모두 덮으면 완전 탐색과 같으므로 미리 풀어 둔 표에서 바로 찾습니다.
+    private int lookupBook(Board board) {
+        if (MinimaxSearcher.isClassic(board) && maxDepth >= board.getEmptyCount() - 1) {
+            OpeningBook book = OpeningBook.getDefault();
+            int move = book.bestMove(board, aiSymbol);
+            bookMove = move != -1;
+            if (bookMove) {
+                rootScore = fromBookScore(book.bestScore(board, aiSymbol));
+            }
+            return move;
+        }
+        return -1;
+    }
+    
+    private void begin(Board board, int depthLimit, long deadline) {
+        stopRequested.set(false);
+        table.newSearch();
+        EndgameTablebase endgame = useDefaultTablebase ? EndgameTablebase.findDefault(board) : tablebase;
+        if (endgame != null && (endgame.getSize() != board.getSize() || endgame.getWinLength() != board.getWinLength())) {
+            endgame = null;
+        }
+        for (MinimaxSearcher searcher : searchers) {
+            searcher.begin(board, depthLimit, deadline, endgame);
+        }
+        if (rootMoves.length < board.getCellCount()) {
+            rootMoves = new int[board.getCellCount()];
+        }
+    }
+    
+    // 오프닝 북 점수(이기면 11 - 남은 수, 지면 -(11 - 남은 수))를 탐색 점수 단위로 바꿉니다.
+    private static int fromBookScore(int score) {
+        if (score > 0) return MinimaxSearcher.WIN_SCORE - (10 - score);
+        if (score < 0) return (10 + score) - MinimaxSearcher.WIN_SCORE;
+        return 0;
+    }
+    
+    private void resetStats() {
+        nodeCount = 1;
+        rootScore = 0;
+        cutoffCount = 0;
+        tableHitCount = 0;
+        sharedHitCount = 0;
+        tablebaseHitCount = 0;
+        bookMove = false;
+    }
+    
+    // 모든 탐색기의 노드 수와 지표를 합칩니다.
+    private void collectStats() {
+        for (MinimaxSearcher searcher : searchers) {
+            nodeCount += searcher.getNodeCount();
+            cutoffCount += searcher.getCutoffCount();
+            tableHitCount += searcher.getTableHitCount();
+            sharedHitCount += searcher.getSharedHitCount();
+            tablebaseHitCount += searcher.getTablebaseHitCount();
+        }
+    }
+    
+    // 알파-베타 루트 탐색. 수를 정렬해서 탐색하더라도 기존 미니맥스와 같은 수를 고르도록,
+    // 각 수를 (현재 최고 점수 - 1, +무한대) 창으로 탐색합니다. 이 창을 넘는 점수는 정확한 값이므로
+    // 같은 점수끼리는 칸 번호가 작은 수를 고르는 기존 규칙을 그대로 적용할 수 있습니다.
+    // 스레드가 여러 개이면 작업자들이 정렬된 루트 수를 하나씩 가져가 탐색하고 최고 기록(알파)을 공유합니다.
+    // 창 아래로 떨어진 수는 최종 최고 점수보다 반드시 낮으므로, 어떤 순서로 끝나도 결과는 항상 같습니다.
+    // firstMove는 먼저 탐색할 수(반복 심화에서 이전 깊이의 최선의 수)입니다. 중단되면 -1을 반환합니다.
+    private int searchRoot(int depth, int firstMove) {
+        int count = searchers[0].orderRootMoves(firstMove, rootMoves);
+        for (MinimaxSearcher searcher : searchers) {
+            searcher.setSearchDepth(depth);
+        }
+        nextRootMove.set(0);
+        sharedBest.set(NO_BEST);
+        
+        int workers = Math.min(searchers.length, count);
+        if (workers > 1) {
+            runParallel(workers, count);
+        } else {
+            searchRootMoves(searchers[0], count);
+        }
+        
+        long best = sharedBest.get();
+        if (stopRequested.get() || best == NO_BEST) {
+            return -1;
+        }
+        rootScore = (int) (best >> 32);
+        return Integer.MAX_VALUE - (int) best;
+    }
+    
+    // 작업자 1개는 호출한 스레드에서, 나머지는 공유 풀에서 실행합니다.
+    // 기다리는 중에 호출 스레드가 인터럽트되면 모든 작업자에게 중단을 요청하고 끝날 때까지 기다립니다.
+    private void runParallel(int workers, int count) {
+        ForkJoinPool pool = POOLS.computeIfAbsent(searchers.length - 1, ForkJoinPool::new);
+        Future<?>[] futures = new Future<?>[workers - 1];
+        for (int w = 1; w < workers; w++) {
+            MinimaxSearcher searcher = searchers[w];
+            futures[w - 1] = pool.submit(() -> searchRootMoves(searcher, count));
+        }
+        searchRootMoves(searchers[0], count);
+        
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get(10, TimeUnit.MILLISECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    stopRequested.set(true);
+                } catch (TimeoutException e) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        stopRequested.set(true);
+                    }
+                } catch (ExecutionException e) {
+                    stopRequested.set(true);
+                    throw new IllegalStateException("병렬 탐색 중 오류가 발생했습니다.", e.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 남은 루트 수를 하나씩 가져와 탐색하고, 정확한 점수가 나오면 공유 최고 기록을 갱신합니다.
+    // 기록은 (점수, 칸 번호가 작을수록 큰 값)을 long 하나로 묶어 compare 없이 최댓값만 남깁니다.
+    private void searchRootMoves(MinimaxSearcher searcher, int count) {
+        for (int k = nextRootMove.getAndIncrement(); k < count; k = nextRootMove.getAndIncrement()) {
+            int move = rootMoves[k];
+            long best = sharedBest.get();
+            int alpha = (best == NO_BEST) ? Integer.MIN_VALUE : (int) (best >> 32) - 1;
+            int score = searcher.searchRootMove(move, alpha);
+            if (searcher.isAborted()) {
+                stopRequested.set(true);
+                return;
+            }
+            if (best == NO_BEST || score > alpha) {
+                long packed = ((long) score << 32) | (Integer.MAX_VALUE - move);
+                sharedBest.accumulateAndGet(packed, Math::max);
+            }
+        }
+    }
+}
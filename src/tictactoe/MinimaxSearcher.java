@@ -0,0 +1,487 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 한 스레드가 사용하는 미니맥스 탐색 상태(작업용 보드, 킬러 수, 히스토리, 수 버퍼, 노드 수).
+// MinimaxAI는 스레드 수만큼 이 객체를 만들어 루트의 수들을 나눠 탐색하며, 치환표는 모든 탐색기가 공유합니다.
+class MinimaxSearcher {
+    // 승패 점수. 휴리스틱 평가값은 항상 WIN_THRESHOLD보다 작게 제한해 승패와 섞이지 않게 합니다.
+    static final int WIN_SCORE = 1_000_000_000;
+    static final int WIN_THRESHOLD = WIN_SCORE - 100_000;
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int HASH_MOVE_BONUS = 1 << 30;
+    private static final int KILLER_BONUS = 1 << 29;
+    private static final int HISTORY_LIMIT = (1 << 20) - 1;
+    // 치환표 키에 둘 차례와 남은 깊이를 섞기 위한 상수
+    private static final long SIDE_KEY = 0xD1B54A32D192ED03L;
+    private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+    // 공유 캐시 키에 AI 심볼과 보드 모양(크기, 승리 조건)을 섞기 위한 상수
+    private static final long AI_SYMBOL_KEY = 0xBF58476D1CE4E5B9L;
+    private static final long SHAPE_MIX = 0x94D049BB133111EBL;
+    // 남은 깊이가 이보다 얕은 국면은 다시 계산하는 편이 공유 캐시를 조회하는 것보다 싸므로 캐시하지 않습니다.
+    private static final int SHARED_MIN_REMAINING = 2;
+    // 공유 캐시에 남기는 점수의 의미(평가 함수, 점수 단위)가 바뀌면 올립니다. 이전 실행의 캐시 스냅숏을 버리는 기준이 됩니다.
+    private static final int EVALUATION_VERSION = 2;
+    // 시간 확인은 노드 1,024개마다 한 번만 합니다.
+    private static final int ABORT_CHECK_MASK = 1023;
+    
+    private final char aiSymbol;
+    private final char playerSymbol;
+    private final TranspositionTable table;
+    // 모든 MinimaxAI가 공유하는 정확한 점수 캐시. null이면 사용하지 않습니다.
+    private final EvaluationCache sharedCache;
+    // 현재 보드 모양의 종반 표. 없으면 null입니다.
+    private EndgameTablebase tablebase;
+    // 다른 탐색기가 마감이나 취소를 감지하면 함께 멈추기 위한 공유 플래그
+    private final AtomicBoolean stopRequested;
+    
+    // 킬러 수(깊이별로 컷오프를 일으킨 수 2개)와 히스토리 점수(심볼별, 칸별).
+    // 노드마다 배열을 만들지 않도록 깊이별 수 버퍼도 미리 할당해 두고, 보드 크기가 바뀔 때만 다시 만듭니다.
+    private int[][] killers;
+    private int[][] history;
+    private int[][] moveBuffer;
+    private int[][] orderBuffer;
+    // 수 정렬용 정적 우선순위: 칸을 지나는 승리 줄의 수(3×3이면 중앙 > 모서리 > 변)
+    private int[] cellPriority;
+    private int bufferSize = -1;
+    private int bufferWinLength = -1;
+    private int bufferPlies = -1;
+    
+    private Board board;
+    private int searchDepth;
+    private long nodeCount;
+    // 지표 수집용: 가지치기 횟수, 치환표와 공유 캐시에서 탐색을 끝낸 횟수
+    private long cutoffCount;
+    private long tableHitCount;
+    private long sharedHitCount;
+    private long tablebaseHitCount;
+    // 시간 제한 탐색의 마감 시각과, 마감이나 취소로 탐색을 중단했는지 여부
+    private long deadline = NO_DEADLINE;
+    private boolean aborted;
+    
+    MinimaxSearcher(char aiSymbol, char playerSymbol, TranspositionTable table, EvaluationCache sharedCache,
+                    AtomicBoolean stopRequested) {
+        this.aiSymbol = aiSymbol;
+        this.playerSymbol = playerSymbol;
+        this.table = table;
+        this.sharedCache = sharedCache;
+        this.stopRequested = stopRequested;
+    }
+    
+    // 새 수를 탐색하기 전에 루트 보드를 복사하고 버퍼를 준비한 뒤 킬러 수, 히스토리 점수를 비웁니다.
+    void begin(Board root, int depthLimit, long deadline, EndgameTablebase tablebase) {
+        this.board = root.clone();
+        this.tablebase = tablebase;
+        this.deadline = deadline;
+        this.aborted = false;
+        this.nodeCount = 0;
+        this.cutoffCount = 0;
+        this.tableHitCount = 0;
+        this.sharedHitCount = 0;
+        this.tablebaseHitCount = 0;
+        prepareBuffers(board, depthLimit);
+        for (int[] killer : killers) {
+            killer[0] = killer[1] = -1;
+        }
+        for (int[] row : history) {
+            java.util.Arrays.fill(row, 0);
+        }
+    }
+    
+    void setSearchDepth(int searchDepth) {
+        this.searchDepth = searchDepth;
+    }
+    
+    long getNodeCount() {
+        return nodeCount;
+    }
+    
+    long getCutoffCount() {
+        return cutoffCount;
+    }
+    
+    long getTableHitCount() {
+        return tableHitCount;
+    }
+    
+    long getSharedHitCount() {
+        return sharedHitCount;
+    }
+    
+    long getTablebaseHitCount() {
+        return tablebaseHitCount;
+    }
+    
+    boolean isAborted() {
+        return aborted;
+    }
+    
+    // 루트의 후보 수를 정렬해 out에 담고 개수를 반환합니다. firstMove가 있으면 가장 먼저 둡니다.
+    int orderRootMoves(int firstMove, int[] out) {
+        int rootIndex = moveBuffer.length - 1;
+        int count = orderMoves(board, rootIndex, 0, firstMove);
+        System.arraycopy(moveBuffer[rootIndex], 0, out, 0, count);
+        return count;
+    }
+    
+    // 루트에서 move를 둔 뒤의 점수를 (alpha, +무한대) 창으로 알파-베타 탐색합니다.
+    int searchRootMove(int move, int alpha) {
+        board.makeMove(move, aiSymbol);
+        int score = alphaBeta(board, 0, alpha, Integer.MAX_VALUE, false);
+        board.undoMove(move);
+        return score;
+    }
+    
+    // 루트에서 move를 둔 뒤의 점수를 가지치기 없이 계산합니다.
+    int minimaxRootMove(int move) {
+        board.makeMove(move, aiSymbol);
+        int score = minimax(board, 0, false);
+        board.undoMove(move);
+        return score;
+    }
+    
+    // 마감 시각이 지났거나, 스레드가 인터럽트되었거나, 다른 탐색기가 중단을 요청했는지 확인합니다.
+    private boolean shouldAbort() {
+        if (!aborted && (nodeCount & ABORT_CHECK_MASK) == 0) {
+            aborted = System.currentTimeMillis() >= deadline
+                    || Thread.currentThread().isInterrupted()
+                    || stopRequested.get();
+        }
+        return aborted;
+    }
+    
+    // 치환표 키에 AI 심볼과 보드 모양을 섞어 공유 캐시 키를 만듭니다.
+    private static long sharedKeyOf(long key, char aiSymbol, Board board) {
+        return key ^ (aiSymbol * AI_SYMBOL_KEY) ^ shapeKeyOf(board);
+    }
+    
+    // 대칭 해시에 둘 차례와 보드 모양을 섞은 국면 키. 남은 깊이는 섞지 않으므로
+    // 깊이와 상관없이 국면별로 결과를 묶을 때(BatchEvaluator 등) 씁니다. secondSide는 O의 차례인지 여부입니다.
+    static long positionKeyOf(Board board, boolean secondSide) {
+        return board.getCanonicalHash() ^ (secondSide ? SIDE_KEY : 0L) ^ shapeKeyOf(board);
+    }
+    
+    private static long shapeKeyOf(Board board) {
+        return (board.getSize() * 31L + board.getWinLength()) * SHAPE_MIX;
+    }
+    
+    // 공유 캐시 키를 만드는 방식(조브리스트 표, 섞는 상수)과 점수의 의미를 요약한 값.
+    // 정해진 국면 하나의 공유 키에 평가 함수 버전과 승리 점수를 섞으므로, 이 중 하나라도 바뀌면 값이 달라집니다.
+    static long sharedKeyFingerprint() {
+        Board sample = new Board();
+        sample.makeMove(4, 'X');
+        long key = sample.getCanonicalHash() ^ SIDE_KEY ^ (SHARED_MIN_REMAINING * DEPTH_MIX);
+        return sharedKeyOf(key, 'O', sample) ^ ((long) EVALUATION_VERSION << 32) ^ WIN_SCORE;
+    }
+    
+    static boolean isClassic(Board board) {
+        return board.getSize() == Board.DEFAULT_SIZE && board.getWinLength() == Board.DEFAULT_SIZE;
+    }
+    
+    // 큰 보드에서는 기존 돌 주변의 빈 칸만 후보로 봅니다. 빈 보드라면 중앙 한 칸만 후보입니다.
+    static boolean isCandidate(Board board, int cell) {
+        if (!board.isEmpty(cell)) {
+            return false;
+        }
+        if (board.getSize() <= Board.DEFAULT_SIZE) {
+            return true;
+        }
+        if (board.getEmptyCount() == board.getCellCount()) {
+            return cell == board.getCellCount() / 2;
+        }
+        return board.hasNeighbor(cell);
+    }
+    
+    // 빈 칸이 모두 후보인지. 후보를 줄인 탐색의 값은 모든 수를 보는 종반 표의 값과 다를 수 있으므로,
+    // 종반 표는 이 조건을 만족하는 국면에서만 씁니다.
+    static boolean isEveryEmptyCandidate(Board board) {
+        if (board.getSize() <= Board.DEFAULT_SIZE) {
+            return true;
+        }
+        if (board.getEmptyCount() == board.getCellCount()) {
+            return board.getCellCount() == 1;
+        }
+        for (int w = 0; w < board.getWordCount(); w++) {
+            for (long bits = board.getEmptyBits(w); bits != 0; bits &= bits - 1) {
+                if (!board.hasNeighbor((w << 6) + Long.numberOfTrailingZeros(bits))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    // 미니맥스 알고리즘을 사용하여 AI가 최적의 수를 탐색합니다.
+    // max 함수는 AI가 가장 유리한 점수를 얻도록, min 함수는 플레이어가 가장 유리한 점수를 얻도록 시뮬레이션합니다.
+    // depth를 활용해 탐색 깊이를 제한함으로써 난이도를 조절할 수 있으며,
+    // 이 함수는 AI가 선택 가능한 모든 수와 그 결과 점수를 계산하며, 단순히 이기는 수뿐 아니라, 지더라도 가능한 한 늦게 지는 최적의 방향으로 게임을 진행합니다.
+    private int minimax(Board board, int depth, boolean isMaximizing) {
+        nodeCount++;
+        char winner = board.checkWinner();
+        
+        // 1. 종료 조건 (depth는 실제 진행된 수의 횟수)
+        if (winner == aiSymbol) return WIN_SCORE - depth; // 승리: 빨리 이길수록 높은 점수
+        if (winner == playerSymbol) return depth - WIN_SCORE; // 패배: 늦게 질수록 높은 점수(덜 나쁜 수)
+        
+        // 2. 탐색 깊이 제한: searchDepth에 도달하면 탐색을 멈추고 국면을 평가
+        if (board.isFull()) return 0;
+        if (depth >= searchDepth) return evaluate(board, depth, isMaximizing);
+        
+        if (isMaximizing) {
+            // 최대화 (AI 차례)
+            int maxScore = Integer.MIN_VALUE;
+            
+            for (int i = 0; i < board.getCellCount(); i++) {
+                if (isCandidate(board, i)) {
+                    board.makeMove(i, aiSymbol);
+                    
+                    // 재귀 호출 시 깊이를 1 증가시켜 전달
+                    int score = minimax(board, depth + 1, false);
+                    board.undoMove(i);
+                    maxScore = Math.max(maxScore, score);
+                }
+            }
+            return maxScore;
+        } else {
+            // 최소화 (플레이어 차례)
+            int minScore = Integer.MAX_VALUE;
+            
+            for (int i = 0; i < board.getCellCount(); i++) {
+                if (isCandidate(board, i)) {
+                    board.makeMove(i, playerSymbol);
+                    
+                    // 재귀 호출 시 깊이를 1 증가시켜 전달
+                    int score = minimax(board, depth + 1, true);
+                    board.undoMove(i);
+                    minScore = Math.min(minScore, score);
+                }
+            }
+            return minScore;
+        }
+    }
+    
+    // 알파-베타 가지치기를 적용한 미니맥스. 종료 조건과 점수 계산은 minimax와 같고,
+    // alpha 이상을 보장받은 최대화 노드나 beta 이하를 보장받은 최소화 노드에서는 남은 수를 더 보지 않습니다.
+    // 결과는 치환표에 정확한 값/하한/상한으로 저장하고, 같은(또는 대칭인) 국면을 다시 만나면 재사용합니다.
+    // 마감으로 중단되면 미완성 결과가 치환표에 남지 않도록 저장하지 않고 바로 빠져나옵니다.
+    private int alphaBeta(Board board, int depth, int alpha, int beta, boolean isMaximizing) {
+        nodeCount++;
+        if (shouldAbort()) return 0;
+        char winner = board.checkWinner();
+        
+        if (winner == aiSymbol) return WIN_SCORE - depth;
+        if (winner == playerSymbol) return depth - WIN_SCORE;
+        if (board.isFull()) return 0;
+        if (depth >= searchDepth) return evaluate(board, depth, isMaximizing);
+        
+        // 끝까지 탐색하는 국면이 종반 표에 있으면 그 아래는 탐색하지 않습니다.
+        // 표에는 승패까지 남은 수가 없으므로, 무승부는 정확한 값(0)으로 바로 쓰고 승패는 가능한 점수 범위로만 씁니다.
+        // 이기는 쪽의 점수는 "다음 수에 이김"과 "마지막 칸에서 이김" 사이이므로, 그 범위가 창 밖이면 바로 잘라냅니다.
+        // 큰 보드에서 주변에 돌이 없는 빈 칸이 남아 있으면 탐색이 그 칸을 보지 않으므로 표를 쓰지 않습니다.
+        if (tablebase != null && searchDepth - depth >= board.getEmptyCount() && isEveryEmptyCandidate(board)) {
+            int result = tablebase.probe(board);
+            if (result == EndgameTablebase.DRAW) {
+                tablebaseHitCount++;
+                return 0;
+            }
+            if (result == EndgameTablebase.WIN || result == EndgameTablebase.LOSS) {
+                boolean aiWins = (result == EndgameTablebase.WIN) == isMaximizing;
+                int sooner = WIN_SCORE - (depth + 1);
+                int later = WIN_SCORE - (depth + board.getEmptyCount());
+                int low = aiWins ? later : -sooner;
+                int high = aiWins ? sooner : -later;
+                if (low >= beta) {
+                    tablebaseHitCount++;
+                    return low;
+                }
+                if (high <= alpha) {
+                    tablebaseHitCount++;
+                    return high;
+                }
+            }
+        }
+        
+        // 남은 깊이가 빈 칸 수보다 크면 끝까지 탐색하는 것과 같으므로 빈 칸 수로 맞춰 키를 공유합니다.
+        int remaining = Math.min(searchDepth - depth, board.getEmptyCount());
+        int symmetry = board.getCanonicalSymmetry();
+        long key = board.getCanonicalHash() ^ (isMaximizing ? 0L : SIDE_KEY) ^ (remaining * DEPTH_MIX);
+        int hashMove = TranspositionTable.NO_MOVE;
+        
+        long entry = table.probe(key);
+        if (entry != 0L) {
+            int score = fromTableScore(TranspositionTable.scoreOf(entry), depth);
+            int flag = TranspositionTable.flagOf(entry);
+            if (flag == TranspositionTable.LOWER_BOUND) alpha = Math.max(alpha, score);
+            if (flag == TranspositionTable.UPPER_BOUND) beta = Math.min(beta, score);
+            if (flag == TranspositionTable.EXACT || alpha >= beta) {
+                tableHitCount++;
+                return score;
+            }
+            
+            int stored = TranspositionTable.moveOf(entry);
+            if (stored != TranspositionTable.NO_MOVE) {
+                hashMove = board.getZobrist().fromCanonical(symmetry, stored);
+            }
+        }
+        
+        // 치환표에 정확한 값이 없으면 다른 게임이 남긴 결과를 찾아봅니다.
+        // 공유 키는 점수의 기준이 되는 AI 심볼과 보드 모양까지 섞어, 값이 실제로 같은 국면끼리만 일치합니다.
+        long sharedKey = 0L;
+        if (sharedCache != null && remaining >= SHARED_MIN_REMAINING) {
+            sharedKey = sharedKeyOf(key, aiSymbol, board);
+            long shared = sharedCache.probe(sharedKey);
+            if (shared != 0L) {
+                sharedHitCount++;
+                int score = EvaluationCache.scoreOf(shared);
+                table.store(key, remaining, TranspositionTable.EXACT, score, EvaluationCache.moveOf(shared));
+                return fromTableScore(score, depth);
+            }
+        }
+        
+        int count = orderMoves(board, depth, isMaximizing ? 0 : 1, hashMove);
+        int[] moves = moveBuffer[depth];
+        char symbol = isMaximizing ? aiSymbol : playerSymbol;
+        int bestScore = isMaximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int bestMove = TranspositionTable.NO_MOVE;
+        int windowAlpha = alpha;
+        int windowBeta = beta;
+        
+        for (int k = 0; k < count; k++) {
+            int i = moves[k];
+            board.makeMove(i, symbol);
+            int score = alphaBeta(board, depth + 1, alpha, beta, !isMaximizing);
+            board.undoMove(i);
+            if (aborted) {
+                return 0;
+            }
+            
+            if (isMaximizing) {
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = i;
+                }
+                alpha = Math.max(alpha, score);
+            } else {
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestMove = i;
+                }
+                beta = Math.min(beta, score);
+            }
+            
+            if (alpha >= beta) {
+                cutoffCount++;
+                recordCutoff(depth, isMaximizing ? 0 : 1, i);
+                break;
+            }
+        }
+        
+        int flag = TranspositionTable.EXACT;
+        if (bestScore <= windowAlpha) {
+            flag = TranspositionTable.UPPER_BOUND;
+        } else if (bestScore >= windowBeta) {
+            flag = TranspositionTable.LOWER_BOUND;
+        }
+        int canonicalMove = board.getZobrist().toCanonical(symmetry, bestMove);
+        table.store(key, remaining, flag, toTableScore(bestScore, depth), canonicalMove);
+        if (sharedKey != 0L && flag == TranspositionTable.EXACT) {
+            sharedCache.store(sharedKey, toTableScore(bestScore, depth), canonicalMove);
+        }
+        return bestScore;
+    }
+    
+    // 승패 점수는 루트로부터의 깊이를 포함하므로, 치환표에는 현재 노드 기준 점수로 바꿔 저장합니다.
+    // 그래야 다른 깊이에서 같은 국면을 만나도 "몇 수 뒤에 이기는지"가 올바르게 복원됩니다.
+    private static int toTableScore(int score, int depth) {
+        if (score > WIN_THRESHOLD) return score + depth;
+        if (score < -WIN_THRESHOLD) return score - depth;
+        return score;
+    }
+    
+    private static int fromTableScore(int score, int depth) {
+        if (score > WIN_THRESHOLD) return score - depth;
+        if (score < -WIN_THRESHOLD) return score + depth;
+        return score;
+    }
+    
+    // 깊이 제한에 걸린 국면의 휴리스틱 평가.
+    // 둘 차례인 쪽에게 한 칸만 남은 줄(위협)이 있으면 다음 수에 이기므로 그 승패 점수를 그대로 돌려주고,
+    // 아니면 보드가 수마다 갱신해 둔 줄 가중치 합의 차이를 승패 점수보다 작게 제한해 씁니다.
+    // 3×3에서는 깊이 제한이 곧 난이도이므로 기존처럼 0(무승부)으로 평가합니다.
+    private int evaluate(Board board, int depth, boolean isMaximizing) {
+        if (isClassic(board)) {
+            return 0;
+        }
+        
+        if (board.getThreatCount(isMaximizing ? aiSymbol : playerSymbol) > 0) {
+            return isMaximizing ? WIN_SCORE - (depth + 1) : (depth + 1) - WIN_SCORE;
+        }
+        long score = board.getPotential(aiSymbol) - board.getPotential(playerSymbol);
+        return (int) Math.max(-WIN_THRESHOLD + 1, Math.min(WIN_THRESHOLD - 1, score));
+    }
+    
+    // 컷오프를 일으킨 수를 킬러 수로 기억하고 히스토리 점수를 올립니다.
+    private void recordCutoff(int depth, int side, int move) {
+        int remaining = searchDepth - depth;
+        history[side][move] = Math.min(HISTORY_LIMIT, history[side][move] + remaining * remaining);
+        if (killers[depth][0] != move) {
+            killers[depth][1] = killers[depth][0];
+            killers[depth][0] = move;
+        }
+    }
+    
+    // 후보 칸을 moveBuffer[depth]에 채우고 치환표의 수, 킬러 수, 히스토리 점수, 정적 우선순위 순으로 정렬합니다.
+    // 후보 수가 많지 않으므로 삽입 정렬로 충분합니다.
+    private int orderMoves(Board board, int depth, int side, int hashMove) {
+        int[] moves = moveBuffer[depth];
+        int[] keys = orderBuffer[depth];
+        int[] killer = killers[depth];
+        int count = 0;
+        
+        for (int move = 0; move < board.getCellCount(); move++) {
+            if (!isCandidate(board, move)) {
+                continue;
+            }
+            int key = (history[side][move] << 8) + cellPriority[move];
+            if (move == killer[0] || move == killer[1]) {
+                key += KILLER_BONUS;
+            }
+            if (move == hashMove) {
+                key += HASH_MOVE_BONUS;
+            }
+            
+            int j = count++;
+            while (j > 0 && keys[j - 1] < key) {
+                moves[j] = moves[j - 1];
+                keys[j] = keys[j - 1];
+                j--;
+            }
+            moves[j] = move;
+            keys[j] = key;
+        }
+        return count;
+    }
+    
+    // 보드 크기나 최대 탐색 깊이가 바뀌었을 때만 탐색용 버퍼와 줄 목록을 다시 만듭니다.
+    private void prepareBuffers(Board board, int depthLimit) {
+        int size = board.getSize();
+        int cells = board.getCellCount();
+        int plies = Math.min(depthLimit, cells) + 2;
+        if (size == bufferSize && board.getWinLength() == bufferWinLength && plies <= bufferPlies) {
+            return;
+        }
+        
+        killers = new int[plies][2];
+        history = new int[2][cells];
+        moveBuffer = new int[plies][cells];
+        orderBuffer = new int[plies][cells];
+        BoardLines lines = BoardLines.of(size, board.getWinLength());
+        cellPriority = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            cellPriority[cell] = lines.linesThrough(cell).length;
+        }
+        bufferSize = size;
+        bufferWinLength = board.getWinLength();
+        bufferPlies = plies;
+    }
+}
@@ -0,0 +1,33 @@
+package tictactoe;
+
+// 일괄 평가에서 국면 하나의 결과. index는 입력에서의 순번(0부터)입니다.
+// 이미 끝난 국면(승패가 났거나 빈 칸이 없음)은 move가 -1입니다.
+class MoveEvaluation {
+    private final long index;
+    private final int move;
+    private final int score;
+
+    MoveEvaluation(long index, int move, int score) {
+        this.index = index;
+        this.move = move;
+        this.score = score;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public int getMove() {
+        return move;
+    }
+
+    // 둘 차례인 쪽 기준의 점수(MinimaxAI.getLastScore와 같은 단위)
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return index + " " + move + " " + score;
+    }
+}
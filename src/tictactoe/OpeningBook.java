@@ -0,0 +1,250 @@
+package tictactoe;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// 3x3 틱택토에서 도달 가능하고 아직 끝나지 않은 모든 국면(4,520개)을 미리 풀어 둔 표.
+// 국면은 칸마다 (빈 칸 0, X 1, O 2)인 3진수로 번호를 매겨 3^9 = 19,683바이트 배열에 저장합니다.
+// 한 바이트의 하위 4비트는 최선의 수(칸 번호, 없으면 15), 상위 4비트는 점수 코드입니다.
+// 점수와 최선의 수는 MinimaxAI의 완전 탐색과 같은 규칙(빨리 이길수록 높은 점수, 같은 점수면 작은 칸 번호)을 따릅니다.
+class OpeningBook {
+    public static final String DEFAULT_FILE = "opening-book.bin";
+    private static final int MAGIC = 0x54545442; // "TTTB"
+    private static final int VERSION = 1;
+    private static final int CELL_COUNT = 9;
+    private static final int POSITION_COUNT = 19683; // 3^9
+    private static final int NO_MOVE = 0x0F;
+    private static final byte UNSOLVED = (byte) 0xFF;
+
+    // 완전 탐색에서 나올 수 있는 점수는 이 10가지뿐이므로 4비트 코드로 저장합니다.
+    private static final int[] SCORES = {0, 2, 4, 6, 8, 10, -3, -5, -7, -9};
+
+    // 9비트 마스크를 3진수 자리값의 합으로 바꾸는 표. index = TERNARY[x] + 2 * TERNARY[o]
+    private static final int[] TERNARY = new int[1 << CELL_COUNT];
+    static {
+        for (int mask = 0; mask < TERNARY.length; mask++) {
+            int value = 0;
+            for (int i = CELL_COUNT - 1; i >= 0; i--) {
+                value = value * 3 + ((mask >> i) & 1);
+            }
+            TERNARY[mask] = value;
+        }
+    }
+
+    private final byte[] entries;
+    private final int positionCount;
+    private final long loadMillis;
+
+    private OpeningBook(byte[] entries, long loadMillis) {
+        this.entries = entries;
+        this.loadMillis = loadMillis;
+        int count = 0;
+        for (byte entry : entries) {
+            if (entry != UNSOLVED) {
+                count++;
+            }
+        }
+        this.positionCount = count;
+    }
+
+    // 프로그램 전체에서 하나만 사용합니다. 작업 디렉터리에 파일이 있으면 읽고, 없으면 메모리에서 생성합니다.
+    private static class Holder {
+        static final OpeningBook INSTANCE = loadOrGenerate(Paths.get(DEFAULT_FILE));
+    }
+
+    public static OpeningBook getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    public static OpeningBook loadOrGenerate(Path path) {
+        OpeningBook book = null;
+        if (Files.isRegularFile(path)) {
+            try {
+                book = load(path);
+            } catch (IOException e) {
+                System.err.println("오프닝 북을 읽지 못해 다시 생성합니다: " + e.getMessage());
+            }
+        }
+        if (book == null) {
+            book = generate();
+        }
+        return book;
+    }
+
+    // 빈 보드(X 차례)에서 도달 가능한 모든 국면을 완전 탐색으로 풉니다.
+    public static OpeningBook generate() {
+        long start = System.nanoTime();
+        byte[] entries = new byte[POSITION_COUNT];
+        java.util.Arrays.fill(entries, UNSOLVED);
+        solve(new Board(), 'X', entries);
+        return new OpeningBook(entries, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 둘 차례인 심볼 기준의 점수를 반환하고, 그 국면의 최선의 수와 점수를 entries에 기록합니다.
+    // 자식 국면의 점수 v(상대 기준)는 한 수가 더해진 것이므로 내 기준으로는 -v + sign(v)가 됩니다.
+    private static int solve(Board board, char turn, byte[] entries) {
+        int index = indexOf(board);
+        if (entries[index] != UNSOLVED) {
+            return SCORES[(entries[index] >> 4) & 0x0F];
+        }
+
+        char next = (turn == 'X') ? 'O' : 'X';
+        int bestScore = Integer.MIN_VALUE;
+        int bestMove = NO_MOVE;
+        for (long empty = board.getEmptyBits(0); empty != 0; empty &= empty - 1) {
+            int move = Long.numberOfTrailingZeros(empty);
+            board.makeMove(move, turn);
+            int score;
+            if (board.checkWinner() == turn) {
+                score = 10;
+            } else if (board.isFull()) {
+                score = 0;
+            } else {
+                int reply = solve(board, next, entries);
+                score = -reply + Integer.signum(reply);
+            }
+            board.undoMove(move);
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+
+        entries[index] = (byte) ((codeOf(bestScore) << 4) | bestMove);
+        return bestScore;
+    }
+
+    private static int codeOf(int score) {
+        for (int code = 0; code < SCORES.length; code++) {
+            if (SCORES[code] == score) {
+                return code;
+            }
+        }
+        throw new IllegalStateException("표에 없는 점수입니다: " + score);
+    }
+
+    private static int indexOf(Board board) {
+        return TERNARY[(int) board.getBits('X', 0)] + 2 * TERNARY[(int) board.getBits('O', 0)];
+    }
+
+    public static OpeningBook load(Path path) throws IOException {
+        long start = System.nanoTime();
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in, start);
+        }
+    }
+
+    private static OpeningBook read(InputStream in, long start) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("오프닝 북 파일 형식이 올바르지 않습니다.");
+        }
+        int length = data.readInt();
+        if (length != POSITION_COUNT) {
+            throw new IOException("오프닝 북 크기가 올바르지 않습니다: " + length);
+        }
+        byte[] entries = new byte[length];
+        data.readFully(entries);
+        for (int index = 0; index < entries.length; index++) {
+            if (!isValidEntry(index, entries[index])) {
+                throw new IOException("오프닝 북 항목이 올바르지 않습니다: 국면 " + index);
+            }
+        }
+        return new OpeningBook(entries, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 점수 코드가 표 안에 있고, 최선의 수가 없거나(NO_MOVE) 그 국면의 빈 칸이어야 합니다.
+    // 국면 번호의 3진수 자리 i가 칸 i이므로 자리값이 0인 칸이 빈 칸입니다.
+    private static boolean isValidEntry(int index, byte entry) {
+        if (entry == UNSOLVED) {
+            return true;
+        }
+        int move = entry & 0x0F;
+        if (((entry >> 4) & 0x0F) >= SCORES.length) {
+            return false;
+        }
+        if (move == NO_MOVE) {
+            return true;
+        }
+        if (move >= CELL_COUNT) {
+            return false;
+        }
+        for (int i = 0; i < move; i++) {
+            index /= 3;
+        }
+        return index % 3 == 0;
+    }
+
+    public void write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(entries.length);
+            data.write(entries);
+            data.flush();
+        }
+    }
+
+    // 3×3 보드가 표에 있고 차례가 맞으면 최선의 수를, 아니면 -1을 반환합니다.
+    public int bestMove(Board board, char turn) {
+        int entry = entryOf(board, turn);
+        return entry == -1 ? -1 : entry & 0x0F;
+    }
+
+    // bestMove가 고르는 수의 점수(둘 차례 기준)를 반환합니다. 표에 없으면 Integer.MIN_VALUE를 반환합니다.
+    // 이번 수로 이기면 10, 한 번 주고받을 때마다 1씩 줄고, 지는 경우는 -(11 - 남은 수)이며 무승부는 0입니다.
+    public int bestScore(Board board, char turn) {
+        int entry = entryOf(board, turn);
+        return entry == -1 ? Integer.MIN_VALUE : SCORES[(entry >> 4) & 0x0F];
+    }
+
+    // X가 먼저 두므로 X와 O의 개수가 같을 때만 X의 차례입니다.
+    private int entryOf(Board board, char turn) {
+        if (board.getSize() != Board.DEFAULT_SIZE || board.getWinLength() != Board.DEFAULT_SIZE) {
+            return -1;
+        }
+        int xCount = Long.bitCount(board.getBits('X', 0));
+        int oCount = Long.bitCount(board.getBits('O', 0));
+        char expected = (xCount == oCount) ? 'X' : 'O';
+        if (turn != expected || xCount - oCount > 1 || xCount < oCount) {
+            return -1;
+        }
+
+        byte entry = entries[indexOf(board)];
+        if (entry == UNSOLVED || (entry & 0x0F) == NO_MOVE) {
+            return -1;
+        }
+        return entry & 0xFF;
+    }
+
+    public int getPositionCount() {
+        return positionCount;
+    }
+
+    public long getMemoryBytes() {
+        return entries.length;
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    // 오프닝 북 파일을 생성합니다. 인자가 없으면 작업 디렉터리의 opening-book.bin에 저장합니다.
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : DEFAULT_FILE);
+        OpeningBook book = generate();
+        book.write(path);
+        System.out.println(String.format("%s 저장 완료: 국면 %d개, %d바이트, 생성 %d ms",
+                path, book.getPositionCount(), Files.size(path), book.getLoadMillis()));
+    }
+}
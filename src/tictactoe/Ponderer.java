@@ -0,0 +1,85 @@
+package tictactoe;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 사람이 생각하는 동안 AI 스레드에서 사람이 둘 만한 수마다 AI의 응수를 미리 계산해 두는 "폰더링".
+// 예측한 순서(predictor가 고른 수를 먼저, 나머지는 칸 순서)로 응수를 하나씩 탐색해 칸 번호별로 저장하고,
+// 사람이 그 칸에 두면 take로 바로 꺼내 탐색 없이 둡니다.
+// 탐색은 AI 수 계산과 같은 단일 스레드 실행기에서 돌리므로 전략 객체를 두 스레드가 동시에 쓰지 않으며,
+// 다시 시작하거나 예측하지 못한 수가 나오면 cancel로 인터럽트해 다음 AI 탐색이 바로 시작되게 합니다.
+// 모든 메서드는 EDT에서 호출하고, 결과 배열만 AI 스레드와 공유합니다.
+class Ponderer {
+    private static final int UNKNOWN = -1;
+
+    private final ExecutorService executor;
+    private Future<?> task;
+    private AtomicIntegerArray replies; // replies[사람의 수] = AI의 응수. 아직 계산하지 않았으면 UNKNOWN
+
+    public Ponderer(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    // 사람 차례인 국면에서 폰더링을 시작합니다. 진행 중이던 폰더링은 취소합니다.
+    // 각 응수는 실제 AI 차례와 같은 시간 제한으로 탐색하므로, 꺼낸 수는 그때 탐색했을 수와 같습니다.
+    // strategy에는 지표 수집(Instrumentation)으로 감싸지 않은 전략을 넘겨, 추측으로 한 탐색이 실제 AI의 수로 집계되지 않게 합니다.
+    public void start(Board position, char humanSymbol, AIStrategy strategy, AIStrategy predictor,
+                      long timeLimitMillis) {
+        cancel();
+        final Board snapshot = position.clone();
+        final AtomicIntegerArray results = new AtomicIntegerArray(snapshot.getCellCount());
+        for (int i = 0; i < results.length(); i++) {
+            results.set(i, UNKNOWN);
+        }
+        replies = results;
+
+        task = executor.submit(() -> {
+            int predicted = predictor == null ? UNKNOWN : predictor.makeMove(snapshot.clone());
+            if (predicted != UNKNOWN) {
+                ponder(snapshot, predicted, humanSymbol, strategy, timeLimitMillis, results);
+            }
+            for (int move = 0; move < snapshot.getCellCount(); move++) {
+                if (move != predicted && snapshot.isEmpty(move)) {
+                    ponder(snapshot, move, humanSymbol, strategy, timeLimitMillis, results);
+                }
+            }
+        });
+    }
+
+    // 사람의 수 reply를 두었다고 보고 AI의 응수를 탐색합니다. 중간에 인터럽트되면 미완성 결과를 버립니다.
+    private static void ponder(Board snapshot, int reply, char humanSymbol, AIStrategy strategy, long timeLimitMillis,
+                               AtomicIntegerArray results) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        snapshot.makeMove(reply, humanSymbol);
+        try {
+            if (snapshot.checkWinner() == Board.EMPTY && !snapshot.isFull()) {
+                int move = strategy.makeMove(snapshot.clone(), System.currentTimeMillis() + timeLimitMillis);
+                if (!Thread.currentThread().isInterrupted()) {
+                    results.set(reply, move);
+                }
+            }
+        } finally {
+            snapshot.undoMove(reply);
+        }
+    }
+
+    // 사람이 reply에 두었을 때 미리 계산한 응수를 꺼냅니다. 없으면 -1을 반환합니다.
+    // 어느 쪽이든 남은 폰더링은 더 쓸모가 없으므로 취소합니다.
+    public int take(int reply) {
+        AtomicIntegerArray results = replies;
+        int move = results == null || reply < 0 || reply >= results.length() ? UNKNOWN : results.get(reply);
+        cancel();
+        return move;
+    }
+
+    public void cancel() {
+        replies = null;
+        if (task != null) {
+            task.cancel(true);
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package tictactoe;
+
+// 한 전략(이름 기준)의 누적 탐색 지표. 같은 이름의 전략 인스턴스들이 여러 스레드에서 함께 기록합니다.
+// 기록은 수 하나에 한 번뿐이고 탐색 시간(밀리초 단위)에 비해 매우 짧으므로 단순히 객체를 잠가 갱신합니다.
+// traceCapacity가 0보다 크면 최근 수들의 탐색 기록을 원시 타입 배열로 된 링 버퍼에 남깁니다.
+class SearchMetrics implements SearchMetricsMXBean {
+    static final String CSV_HEADER = "timestamp,strategy,moves,bookMoves,nodes,cutoffs,tableHits,sharedHits,"
+            + "meanDepth,meanMs,p50Ms,p99Ms,maxMs,nodesPerSec,playouts,playoutsPerSec";
+
+    private final String strategyName;
+    private final LatencyHistogram moveTime = new LatencyHistogram();
+    private long moveCount;
+    private long bookMoveCount;
+    private long nodeCount;
+    private long playoutCount; // MctsAI의 플레이아웃 수. 노드 수와 단위가 다르므로 따로 셉니다.
+    private long cutoffCount;
+    private long tableHitCount;
+    private long sharedHitCount;
+    private long depthSum;
+
+    private final long[] traceTimes;
+    private final long[] traceNodes;
+    private final long[] traceNanos;
+    private final int[] traceEmpties;
+    private final int[] traceMoves;
+    private final int[] traceDepths;
+    private long traceCount;
+
+    SearchMetrics(String strategyName, int traceCapacity) {
+        this.strategyName = strategyName;
+        traceTimes = new long[traceCapacity];
+        traceNodes = new long[traceCapacity];
+        traceNanos = new long[traceCapacity];
+        traceEmpties = new int[traceCapacity];
+        traceMoves = new int[traceCapacity];
+        traceDepths = new int[traceCapacity];
+    }
+
+    synchronized void record(int empties, int move, long nanos, long nodes, long playouts, int depth,
+                             long cutoffs, long tableHits, long sharedHits, boolean book) {
+        moveTime.record(nanos);
+        moveCount++;
+        nodeCount += nodes;
+        playoutCount += playouts;
+        cutoffCount += cutoffs;
+        tableHitCount += tableHits;
+        sharedHitCount += sharedHits;
+        depthSum += depth;
+        if (book) {
+            bookMoveCount++;
+        }
+
+        if (traceTimes.length > 0) {
+            int slot = (int) (traceCount % traceTimes.length);
+            traceTimes[slot] = System.currentTimeMillis();
+            traceNodes[slot] = nodes;
+            traceNanos[slot] = nanos;
+            traceEmpties[slot] = empties;
+            traceMoves[slot] = move;
+            traceDepths[slot] = depth;
+            traceCount++;
+        }
+    }
+
+    @Override
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    @Override
+    public synchronized long getMoveCount() {
+        return moveCount;
+    }
+
+    @Override
+    public synchronized long getBookMoveCount() {
+        return bookMoveCount;
+    }
+
+    @Override
+    public synchronized long getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public synchronized long getPlayoutCount() {
+        return playoutCount;
+    }
+
+    @Override
+    public synchronized long getCutoffCount() {
+        return cutoffCount;
+    }
+
+    @Override
+    public synchronized long getTableHitCount() {
+        return tableHitCount;
+    }
+
+    @Override
+    public synchronized long getSharedHitCount() {
+        return sharedHitCount;
+    }
+
+    @Override
+    public synchronized double getMeanDepth() {
+        return moveCount == 0 ? 0 : (double) depthSum / moveCount;
+    }
+
+    @Override
+    public synchronized double getMeanMoveMillis() {
+        return moveTime.getMeanNanos() / 1e6;
+    }
+
+    @Override
+    public synchronized double getP50MoveMillis() {
+        return moveTime.getPercentileNanos(50) / 1e6;
+    }
+
+    @Override
+    public synchronized double getP99MoveMillis() {
+        return moveTime.getPercentileNanos(99) / 1e6;
+    }
+
+    @Override
+    public synchronized double getMaxMoveMillis() {
+        return moveTime.getMaxNanos() / 1e6;
+    }
+
+    @Override
+    public synchronized double getNodesPerSecond() {
+        return perSecond(nodeCount);
+    }
+
+    @Override
+    public synchronized double getPlayoutsPerSecond() {
+        return perSecond(playoutCount);
+    }
+
+    // 기록한 수들의 탐색 시간 합계로 나눈 초당 횟수
+    private double perSecond(long count) {
+        double seconds = moveTime.getMeanNanos() * moveTime.getCount() / 1e9;
+        return seconds == 0 ? 0 : count / seconds;
+    }
+
+    @Override
+    public synchronized String[] getRecentTrace() {
+        int size = (int) Math.min(traceCount, traceTimes.length);
+        String[] rows = new String[size];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) ((traceCount - size + i) % traceTimes.length);
+            rows[i] = traceTimes[slot] + "," + strategyName + "," + traceEmpties[slot] + "," + traceMoves[slot]
+                    + "," + traceDepths[slot] + "," + traceNodes[slot] + "," + traceNanos[slot] / 1000;
+        }
+        return rows;
+    }
+
+    @Override
+    public synchronized void reset() {
+        moveTime.reset();
+        moveCount = 0;
+        bookMoveCount = 0;
+        nodeCount = 0;
+        playoutCount = 0;
+        cutoffCount = 0;
+        tableHitCount = 0;
+        sharedHitCount = 0;
+        depthSum = 0;
+        traceCount = 0;
+    }
+
+    synchronized String toCsvRow(long timestamp) {
+        return String.format(java.util.Locale.ROOT, "%d,%s,%d,%d,%d,%d,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.0f,%d,%.0f",
+                timestamp, strategyName, moveCount, bookMoveCount, nodeCount, cutoffCount, tableHitCount,
+                sharedHitCount, getMeanDepth(), getMeanMoveMillis(), getP50MoveMillis(), getP99MoveMillis(),
+                getMaxMoveMillis(), getNodesPerSecond(), playoutCount, getPlayoutsPerSecond());
+    }
+
+    @Override
+    public synchronized String toString() {
+        String text = String.format("[%s] 수 %,d(북 %,d), 노드 %,d, 평균 깊이 %.1f, 시간 평균 %.2fms / p99 %.2fms, 초당 노드 %,.0f",
+                strategyName, moveCount, bookMoveCount, nodeCount, getMeanDepth(), getMeanMoveMillis(),
+                getP99MoveMillis(), getNodesPerSecond());
+        if (playoutCount > 0) {
+            text += String.format(", 플레이아웃 %,d, 초당 플레이아웃 %,.0f", playoutCount, getPlayoutsPerSecond());
+        }
+        return text;
+    }
+}
@@ -0,0 +1,42 @@
+package tictactoe;
+
+// JMX로 공개하는 AI 탐색 지표(jconsole 등에서 tictactoe:type=SearchMetrics로 조회).
+// JMX는 공개 인터페이스만 MXBean으로 인식하므로 이 인터페이스만 public으로 둡니다.
+public interface SearchMetricsMXBean {
+    String getStrategyName();
+
+    long getMoveCount();
+
+    long getBookMoveCount();
+
+    long getNodeCount();
+
+    // MctsAI의 플레이아웃 수. 미니맥스의 노드 수와는 따로 셉니다.
+    long getPlayoutCount();
+
+    long getCutoffCount();
+
+    long getTableHitCount();
+
+    long getSharedHitCount();
+
+    double getMeanDepth();
+
+    double getMeanMoveMillis();
+
+    double getP50MoveMillis();
+
+    double getP99MoveMillis();
+
+    double getMaxMoveMillis();
+
+    double getNodesPerSecond();
+
+    double getPlayoutsPerSecond();
+
+    // 최근 수들의 탐색 기록. 각 행은 "시각,전략,빈 칸 수,수,깊이,노드 수,마이크로초" 형식의 CSV이며,
+    // 기록을 켜지 않았으면 빈 배열입니다.
+    String[] getRecentTrace();
+
+    void reset();
+}
@@ -0,0 +1,82 @@
+package tictactoe;
+
+// 대량 자가 대국의 집계 결과. 승패는 첫 번째 전략 기준이며, 수마다 걸린 시간은 히스토그램으로 모읍니다.
+class SelfPlayResult {
+    private long firstWins;
+    private long secondWins;
+    private long draws;
+    private long moves;
+    private long elapsedNanos;
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+
+    void recordGame(char winner, char firstSymbol) {
+        if (winner == Board.EMPTY) {
+            draws++;
+        } else if (winner == firstSymbol) {
+            firstWins++;
+        } else {
+            secondWins++;
+        }
+    }
+
+    void recordMove(long nanos) {
+        moves++;
+        moveLatency.record(nanos);
+    }
+
+    void merge(SelfPlayResult other) {
+        firstWins += other.firstWins;
+        secondWins += other.secondWins;
+        draws += other.draws;
+        moves += other.moves;
+        moveLatency.merge(other.moveLatency);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getFirstWins() {
+        return firstWins;
+    }
+
+    public long getSecondWins() {
+        return secondWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getGames() {
+        return firstWins + secondWins + draws;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "대국 %d판 (%.1f초, 초당 %.0f판, 수 %d개)%n"
+                + "첫 번째 승 %d | 두 번째 승 %d | 무승부 %d%n"
+                + "수당 지연 시간(us): 평균 %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, 최대 %.2f",
+                getGames(), elapsedNanos / 1e9, getGamesPerSecond(), moves,
+                firstWins, secondWins, draws,
+                moveLatency.getMeanNanos() / 1e3,
+                moveLatency.getPercentileNanos(50) / 1e3,
+                moveLatency.getPercentileNanos(90) / 1e3,
+                moveLatency.getPercentileNanos(99) / 1e3,
+                moveLatency.getPercentileNanos(99.9) / 1e3,
+                moveLatency.getMaxNanos() / 1e3);
+    }
+}
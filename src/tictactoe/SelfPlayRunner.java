@@ -0,0 +1,139 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 화면 없이 두 전략을 서로 대국시키는 실행기. 전략 회귀 테스트와 엔진 부하 테스트에 사용합니다.
+// 스레드마다 전략 인스턴스와 보드를 따로 만들어 공유 상태 없이 대국하고, 끝난 뒤 결과만 합칩니다.
+// 선공 이점을 없애기 위해 짝수 번째 판은 첫 번째 전략이, 홀수 번째 판은 두 번째 전략이 X(선공)를 잡습니다.
+class SelfPlayRunner {
+    private final StrategyFactory first;
+    private final StrategyFactory second;
+    private final int boardSize;
+    private final int winLength;
+    private GameRecordWriter recordWriter; // null이 아니면 끝난 대국을 모두 기보로 남깁니다(3×3만 가능).
+
+    public SelfPlayRunner(StrategyFactory first, StrategyFactory second) {
+        this(first, second, Board.DEFAULT_SIZE, Board.DEFAULT_SIZE);
+    }
+
+    public SelfPlayRunner(StrategyFactory first, StrategyFactory second, int boardSize, int winLength) {
+        this.first = first;
+        this.second = second;
+        this.boardSize = boardSize;
+        this.winLength = winLength;
+    }
+
+    public void setRecordWriter(GameRecordWriter recordWriter) {
+        if (recordWriter != null && boardSize * boardSize > GameRecordWriter.MAX_CELLS) {
+            throw new IllegalArgumentException("기보는 칸이 " + GameRecordWriter.MAX_CELLS + "개 이하인 보드만 기록할 수 있습니다.");
+        }
+        this.recordWriter = recordWriter;
+    }
+
+    public SelfPlayResult run(long games, int threads) throws InterruptedException {
+        if (games < 0 || threads < 1) {
+            throw new IllegalArgumentException("대국 수와 스레드 수가 올바르지 않습니다: " + games + ", " + threads);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Callable<SelfPlayResult>> tasks = new ArrayList<>();
+            long offset = 0;
+            for (int t = 0; t < threads; t++) {
+                long share = games / threads + (t < games % threads ? 1 : 0);
+                long firstGame = offset;
+                tasks.add(() -> playGames(firstGame, share));
+                offset += share;
+            }
+
+            SelfPlayResult total = new SelfPlayResult();
+            for (Future<SelfPlayResult> future : executor.invokeAll(tasks)) {
+                total.merge(future.get());
+            }
+            total.setElapsedNanos(System.nanoTime() - start);
+            return total;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("자가 대국 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 한 스레드가 맡은 대국. 게임 번호(firstGame부터)로 선공을 정하므로 스레드 수와 상관없이 배정이 같습니다.
+    private SelfPlayResult playGames(long firstGame, long count) {
+        AIStrategy firstAsX = first.create('X', 'O');
+        AIStrategy firstAsO = first.create('O', 'X');
+        AIStrategy secondAsX = second.create('X', 'O');
+        AIStrategy secondAsO = second.create('O', 'X');
+        Board board = new Board(boardSize, winLength);
+        int[] moves = new int[board.getCellCount()];
+        SelfPlayResult result = new SelfPlayResult();
+
+        for (long game = firstGame; game < firstGame + count; game++) {
+            boolean firstPlaysX = (game % 2 == 0);
+            AIStrategy x = firstPlaysX ? firstAsX : secondAsX;
+            AIStrategy o = firstPlaysX ? secondAsO : firstAsO;
+            char winner = playGame(board, x, o, result, moves);
+            result.recordGame(winner, firstPlaysX ? 'X' : 'O');
+            if (recordWriter != null) {
+                recordWriter.write(moves, board.getCellCount() - board.getEmptyCount(), winner);
+            }
+        }
+        return result;
+    }
+
+    // 둔 수는 순서대로 moves에 남깁니다.
+    private static char playGame(Board board, AIStrategy x, AIStrategy o, SelfPlayResult result, int[] moves) {
+        board.reset();
+        char turn = 'X';
+        int count = 0;
+        while (board.checkWinner() == Board.EMPTY && !board.isFull()) {
+            AIStrategy player = (turn == 'X') ? x : o;
+            long start = System.nanoTime();
+            int move = player.makeMove(board);
+            result.recordMove(System.nanoTime() - start);
+            if (!board.makeMove(move, turn)) {
+                throw new InvalidMoveException(player.getName() + "가 둘 수 없는 칸(" + move + ")을 선택했습니다.");
+            }
+            moves[count++] = move;
+            turn = (turn == 'X') ? 'O' : 'X';
+        }
+        return board.checkWinner();
+    }
+
+    // 사용법: SelfPlayRunner <첫 번째 난이도> <두 번째 난이도> <대국 수> [스레드 수] [보드 크기] [승리 조건] [기보 파일]
+    // 예) java -cp target/classes tictactoe.SelfPlayRunner HARD EASY 1000000 8 3 3 selfplay.ttr
+    public static void main(String[] args) throws InterruptedException, IOException {
+        if (args.length < 3) {
+            System.err.println("사용법: SelfPlayRunner <EASY|MEDIUM|HARD|MCTS> <EASY|MEDIUM|HARD|MCTS> <대국 수> [스레드 수] [보드 크기] [승리 조건] [기보 파일]");
+            return;
+        }
+        long games = Long.parseLong(args[2]);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int size = args.length > 4 ? Integer.parseInt(args[4]) : Board.DEFAULT_SIZE;
+        int winLength = args.length > 5 ? Integer.parseInt(args[5]) : Math.min(size, Board.DEFAULT_SIZE);
+
+        SelfPlayRunner runner = new SelfPlayRunner(
+                StrategyFactory.forDifficulty(args[0]), StrategyFactory.forDifficulty(args[1]), size, winLength);
+        System.out.println(args[0] + " vs " + args[1] + ", " + size + "x" + size + " " + winLength + "목, 스레드 " + threads);
+        GameRecordWriter writer = args.length > 6 ? new GameRecordWriter(Paths.get(args[6])) : null;
+        runner.setRecordWriter(writer);
+        try {
+            System.out.println(runner.run(games, threads));
+        } finally {
+            if (writer != null) {
+                writer.close();
+                System.out.println("기보 " + writer.getGameCount() + "판 기록: " + args[6]);
+            }
+        }
+    }
+}
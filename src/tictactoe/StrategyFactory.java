@@ -0,0 +1,39 @@
+package tictactoe;
+
+// 심볼이 정해진 AI를 새로 만드는 팩토리. MinimaxAI처럼 상태를 가진 전략은 스레드끼리 공유할 수 없으므로
+// 대량 대국이나 서버에서는 스레드(또는 게임)마다 이 팩토리로 새 인스턴스를 만듭니다.
+// 지표 수집이 켜져 있으면 난이도별 전략은 Instrumentation으로 감싸서 만들어집니다.
+@FunctionalInterface
+interface StrategyFactory {
+    AIStrategy create(char symbol, char opponent);
+
+    // 게임 화면과 같은 난이도 이름(EASY, MEDIUM, HARD)이나 MCTS, TUNABLE:<강도 0~1>로 팩토리를 찾습니다.
+    static StrategyFactory forDifficulty(String difficulty) {
+        String name = difficulty.toUpperCase();
+        if (name.startsWith("TUNABLE:")) {
+            double strength;
+            try {
+                strength = Double.parseDouble(name.substring("TUNABLE:".length()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("강도는 0에서 1 사이의 숫자여야 합니다: " + difficulty);
+            }
+            TunableAI.checkStrength(strength); // 강도가 범위를 벗어나면 팩토리를 만들 때 바로 알립니다.
+            return (symbol, opponent) -> Instrumentation.wrap(new TunableAI(strength));
+        }
+        switch (name) {
+            case "EASY":
+                return (symbol, opponent) -> Instrumentation.wrap(new EasyAI());
+            case "MEDIUM":
+                return (symbol, opponent) -> Instrumentation.wrap(
+                        new MinimaxAI(symbol, opponent, TicTacToeGame.MEDIUM_DEPTH));
+            case "HARD":
+                return (symbol, opponent) -> Instrumentation.wrap(
+                        new MinimaxAI(symbol, opponent, TicTacToeGame.HARD_DEPTH));
+            case "MCTS":
+                return (symbol, opponent) -> Instrumentation.wrap(
+                        new MctsAI(symbol, opponent, MctsAI.DEFAULT_PLAYOUTS));
+            default:
+                throw new IllegalArgumentException("알 수 없는 난이도입니다: " + difficulty);
+        }
+    }
+}
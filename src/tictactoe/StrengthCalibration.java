@@ -0,0 +1,81 @@
+package tictactoe;
+
+// TunableAI의 강도별 실제 승률을 화면 없는 자가 대국(SelfPlayRunner)으로 측정하고,
+// 측정한 표에서 원하는 승률에 맞는 강도를 찾습니다. 승률은 상대 전략에 따라 달라지므로 상대를 함께 지정합니다.
+// 선공은 SelfPlayRunner가 판마다 번갈아 맡기므로 승률에는 선공 이점이 섞이지 않습니다.
+class StrengthCalibration {
+    private final StrategyFactory opponent;
+    private final long gamesPerStep;
+    private final int threads;
+
+    public StrengthCalibration(StrategyFactory opponent, long gamesPerStep, int threads) {
+        if (gamesPerStep < 1 || threads < 1) {
+            throw new IllegalArgumentException("대국 수와 스레드 수가 올바르지 않습니다: " + gamesPerStep + ", " + threads);
+        }
+        this.opponent = opponent;
+        this.gamesPerStep = gamesPerStep;
+        this.threads = threads;
+    }
+
+    // 강도 0부터 1까지 steps개 구간(steps + 1개 지점)의 승률. winRates[i]는 강도 i / steps에서의 승률입니다.
+    // draws가 null이 아니면 같은 위치에 무승부 비율을 채웁니다.
+    public double[] measure(int steps, double[] draws) throws InterruptedException {
+        if (steps < 1) {
+            throw new IllegalArgumentException("구간 수가 올바르지 않습니다: " + steps);
+        }
+        double[] winRates = new double[steps + 1];
+        for (int i = 0; i <= steps; i++) {
+            double strength = (double) i / steps;
+            SelfPlayRunner runner = new SelfPlayRunner((symbol, opponentSymbol) -> new TunableAI(strength), opponent);
+            SelfPlayResult result = runner.run(gamesPerStep, threads);
+            winRates[i] = (double) result.getFirstWins() / result.getGames();
+            if (draws != null) {
+                draws[i] = (double) result.getDraws() / result.getGames();
+            }
+        }
+        return winRates;
+    }
+
+    // 측정한 표에서 목표 승률에 맞는 강도를 선형 보간으로 찾습니다. 승률이 강도에 따라 정확히 단조롭지는 않으므로
+    // 목표를 처음 넘는 구간을 쓰고, 표의 범위를 벗어나면 가장 가까운 끝(강도 0 또는 1)을 반환합니다.
+    public static double strengthFor(double[] winRates, double targetWinRate) {
+        int steps = winRates.length - 1;
+        if (targetWinRate <= winRates[0]) {
+            return 0;
+        }
+        for (int i = 1; i <= steps; i++) {
+            if (winRates[i] >= targetWinRate) {
+                double span = winRates[i] - winRates[i - 1];
+                double t = span <= 0 ? 1 : (targetWinRate - winRates[i - 1]) / span;
+                return (i - 1 + t) / steps;
+            }
+        }
+        return 1;
+    }
+
+    // 사용법: StrengthCalibration <상대 난이도> [구간별 대국 수] [구간 수] [스레드 수] [목표 승률]
+    // 예) java -cp target/classes tictactoe.StrengthCalibration EASY 20000 10 8 0.6
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("사용법: StrengthCalibration <EASY|MEDIUM|HARD|MCTS> [구간별 대국 수] [구간 수] [스레드 수] [목표 승률]");
+            return;
+        }
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 20_000;
+        int steps = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        StrengthCalibration calibration = new StrengthCalibration(StrategyFactory.forDifficulty(args[0]), games, threads);
+        double[] draws = new double[steps + 1];
+        double[] winRates = calibration.measure(steps, draws);
+        System.out.println("상대 " + args[0] + ", 강도별 " + games + "판");
+        System.out.println("강도\t승률\t무승부\t패배");
+        for (int i = 0; i <= steps; i++) {
+            System.out.printf("%.2f\t%.3f\t%.3f\t%.3f%n",
+                    (double) i / steps, winRates[i], draws[i], Math.max(0, 1 - winRates[i] - draws[i]));
+        }
+        if (args.length > 4) {
+            double target = Double.parseDouble(args[4]);
+            System.out.printf("승률 %.3f에 맞는 강도: %.3f%n", target, strengthFor(winRates, target));
+        }
+    }
+}
@@ -1,14 +1,23 @@
+package tictactoe;
+
 import javax.swing.*;
-import javax.swing.plaf.basic.BasicButtonUI;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class TicTacToeGame extends JFrame {
     // JFrame 상속으로 Serializable이 자동 상속되어 생긴 경고로, serialVersionUID 선언으로 해결
     private static final long serialVersionUID = 1L;
     private Board board;
-    private JButton[] buttons;
+    private BoardView boardView; // 창 구성은 처음 한 번만 만들고, 이후에는 모델과 라벨 내용만 바꿉니다.
+    private JButton changeSymbolButton;
     private JLabel statusLabel;
     private AIStrategy aiPlayer;
+    private AIStrategy ponderStrategy; // 지표 수집으로 감싸기 전의 AI. 폰더링 탐색이 실제 수로 집계되지 않게 합니다.
     private char humanSymbol = 'X'; // 기본값 X
     private char aiSymbol = 'O';    // 기본값 O
     private boolean gameActive; // AI 차례 여부
@@ -16,13 +25,44 @@ public class TicTacToeGame extends JFrame {
     private int humanScore = 0;
     private int aiScore = 0;
     private JLabel scoreLabel;
-    private boolean[] isClicked = new boolean[9]; // 각 버튼의 클릭 상태를 저장하는 플래그
+    private int[] moveHistory = new int[9]; // 이번 판에 둔 수(순서대로). 판이 끝나면 기보 파일에 기록합니다.
+    private int moveCount;
+    private GameRecordWriter recordWriter; // 첫 판이 끝날 때 엽니다. 열지 못하면 기록 없이 계속합니다.
+    private boolean recordFailed;
+    private final GameAnalytics analytics = GameAnalytics.shared(); // 난이도별 결과, 오프닝, 칸 기여도, AI 응답 시간
     
     // 난이도 설정: 
     // 중간 난이도는 미니맥스 탐색 깊이를 3으로 제한하여 탐색을 줄이고,
     // 어려움 난이도는 탐색 깊이를 10으로 설정해 거의 완전 탐색을 수행, 최적의 수를 반환합니다.
     public static final int MEDIUM_DEPTH = 3;
-    private static final int HARD_DEPTH = 10;
+    public static final int HARD_DEPTH = 10;
+    // 게임 화면의 쉬움/중간은 탐색 깊이 대신 TunableAI의 강도로 정합니다. 무작위로 두는 상대에게
+    // 승률 50%/70%가 되는 강도를 StrengthCalibration으로 측정한 값입니다(StrengthCalibration EASY 100000 20 8 0.5).
+    // 깊이 3 미니맥스는 무작위 상대에게 어려움과 거의 같은 승률(약 88%)을 내서 두 난이도가 구분되지 않았습니다.
+    static final double EASY_STRENGTH = 0.23;
+    static final double MEDIUM_STRENGTH = 0.65;
+    // AI가 한 수를 고르는 데 쓸 수 있는 최대 시간(ms). 이 시간이 지나면 마지막으로 끝까지 탐색한 깊이의 수를 둡니다.
+    private static final long AI_TIME_LIMIT_MS = 2000;
+    // 끝난 게임을 이어 붙이는 기보 파일(작업 디렉터리). GameRecordReader로 읽습니다.
+    static final String RECORD_FILE = "games.ttr";
+    
+    // AI 탐색은 EDT가 아닌 별도 스레드에서 실행해, 탐색이 길어져도 화면이 멈추지 않게 합니다.
+    // 게임을 다시 시작하거나 심볼/난이도를 바꾸면 gameGeneration을 올리고 진행 중인 탐색을 취소(인터럽트)하며,
+    // 이전 게임에서 늦게 도착한 결과는 세대 번호가 달라 버려집니다.
+    private final ExecutorService aiExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ai-move");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Timer aiMoveTimer;
+    private Future<?> aiTask;
+    private int gameGeneration;
+    
+    // 사람 차례에는 같은 AI 스레드에서 사람이 둘 만한 수마다 AI의 응수를 미리 탐색해 둡니다(-Dtictactoe.ponder=false로 끔).
+    // 무작위로 두는 쉬움 난이도는 미리 계산할 의미가 없어 폰더링하지 않습니다.
+    private static final boolean PONDER = Boolean.parseBoolean(System.getProperty("tictactoe.ponder", "true"));
+    private final Ponderer ponderer = new Ponderer(aiExecutor);
+    private AIStrategy humanPredictor; // 사람이 둘 수를 예측해 그 응수부터 폰더링하는 데 사용
     
     // 기본 설정 : 윈도우 창을 닫을 때 프로그램이 종료 된다.
     public TicTacToeGame() {
@@ -70,50 +110,77 @@ public class TicTacToeGame extends JFrame {
     	// 이벤트 리스너는 나중에 실행되므로, 이전 난이도 정보를 유지하려면 
     	// 힙에 저장되는 인스턴스 변수 currentDifficulty에 할당해야 합니다.
         currentDifficulty = difficulty;
+        cancelAIMove();
         
         // AI 플레이어 생성
         switch (difficulty) {
             case "EASY":
-                aiPlayer = new EasyAI();
+                aiPlayer = new TunableAI(EASY_STRENGTH);
                 break;
             case "MEDIUM":
-                aiPlayer = new MinimaxAI(aiSymbol, humanSymbol, MEDIUM_DEPTH);
+                aiPlayer = new TunableAI(MEDIUM_STRENGTH);
                 break;
             case "HARD":
                 aiPlayer = new MinimaxAI(aiSymbol, humanSymbol, HARD_DEPTH);
                 break;
         }
+        ponderStrategy = aiPlayer;
+        aiPlayer = Instrumentation.wrap(aiPlayer);
+        // 강도 조절 AI는 탐색 없이 바로 수를 고르므로 미리 계산할 필요가 없습니다.
+        humanPredictor = PONDER && ponderStrategy instanceof MinimaxAI
+                ? new MinimaxAI(humanSymbol, aiSymbol, MEDIUM_DEPTH) : null;
         
         // 게임 보드 초기화
         board = new Board();
+        moveHistory = new int[board.getCellCount()];
+        moveCount = 0;
         gameActive = (humanSymbol == 'X'); // X가 먼저 시작
         
-        // 기존 컴포넌트 제거
-        getContentPane().removeAll();
-        
-        // GUI 설정
+        // 심볼이나 난이도를 바꿀 때마다 컴포넌트를 다시 만들지 않고, 처음 한 번만 창을 구성합니다.
+        if (boardView == null) {
+            buildWindow();
+        }
         setTitle("틱택토 - " + aiPlayer.getName());
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);  // X 버튼 클릭 시 프로그램 종료
-        setLayout(new BorderLayout(10, 10));
-        setSize(400, 500);
-        setLocationRelativeTo(null); // 화면 중앙에 위치
         
         // 상태 레이블
         String initialMessage = gameActive ? 
             "당신의 차례입니다 (" + humanSymbol + ")" : 
             "AI의 차례입니다 (" + aiSymbol + ")";
-        statusLabel = new JLabel(initialMessage, SwingConstants.CENTER);
+        statusLabel.setText(initialMessage);
+        statusLabel.setForeground(Color.BLACK);
+        scoreLabel.setText(formatScoreText());
+        changeSymbolButton.setText("심볼 변경 (" + (humanSymbol == 'X' ? "O" : "X") + "로)");
+        
+        // 플레이어의 돌은 파란색, AI의 돌은 빨간색으로 그립니다.
+        boardView.setSymbolColors(humanSymbol == 'X' ? Color.BLUE : Color.RED,
+                                  humanSymbol == 'O' ? Color.BLUE : Color.RED);
+        boardView.setBoard(board);
+        boardView.setEnabled(true);
+        
+        // O를 선택했다면 AI가 먼저 시작
+        if (!gameActive) {
+        	startAIMoveTimer();
+        } else {
+            startPondering();
+        }
+    }
+    
+    // 창의 컴포넌트를 구성합니다. 게임판은 칸마다 버튼을 두는 대신 BoardView 하나가 직접 그립니다.
+    private void buildWindow() {
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);  // X 버튼 클릭 시 프로그램 종료
+        setLayout(new BorderLayout(10, 10));
+        setSize(400, 500);
+        setLocationRelativeTo(null); // 화면 중앙에 위치
+        
+        statusLabel = new JLabel("", SwingConstants.CENTER);
         statusLabel.setFont(new Font("맑은 고딕", Font.BOLD, 16));
-        add(statusLabel, BorderLayout.NORTH);
         
         // 점수 레이블 초기화
         scoreLabel = new JLabel(formatScoreText(), SwingConstants.CENTER);
         scoreLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
         
         // 상태 레이블과 점수 레이블을 담을 상단 패널 생성 및 배치
-        JPanel northPanel = new JPanel(new GridLayout(2, 1)); // 2행 1열
-
-        
+        JPanel northPanel = new JPanel();
         northPanel.setLayout(new BoxLayout(northPanel, BoxLayout.Y_AXIS));
         statusLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -122,35 +189,10 @@ public class TicTacToeGame extends JFrame {
         northPanel.add(scoreLabel);		// 2행: 점수 표시	
         add(northPanel, BorderLayout.NORTH);
         
-        // 게임 보드 패널
-        JPanel boardPanel = new JPanel(new GridLayout(3, 3, 8, 8));       
-        boardPanel.setBackground(Color.BLACK);
-        boardPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        buttons = new JButton[9];
-        isClicked = new boolean[9];
-        
-        for (int i = 0; i < 9; i++) {
-            final int position = i;
-            buttons[i] = new JButton("");
-            buttons[i].setFont(new Font("맑은 고딕", Font.BOLD, 60));
-            buttons[i].setFocusPainted(false);
-            buttons[i].setBackground(Color.WHITE);
-            // 마우스 리스너 추가: 커서 모양 제어
-            buttons[i].addMouseListener(new java.awt.event.MouseAdapter() {
-                @Override
-                public void mouseEntered(java.awt.event.MouseEvent evt) {
-                    if (isClicked[position]) { // 이미 클릭된 칸이면 기본 커서 유지
-                        buttons[position].setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
-                    } else { // 클릭 가능하면 손가락 모양 커서 (클릭 가능하다는 시각적 피드백 제공)
-                        buttons[position].setCursor(new Cursor(Cursor.HAND_CURSOR));
-                    }
-                }
-            });
-            buttons[i].addActionListener(e -> handlePlayerMove(position));
-            boardPanel.add(buttons[i]);
-        }
-        
-        add(boardPanel, BorderLayout.CENTER);
+        // 게임 보드
+        boardView = new BoardView();
+        boardView.setMoveListener(this::handlePlayerMove);
+        add(boardView, BorderLayout.CENTER);
         
         // 버튼 패널
         JPanel buttonPanel = new JPanel(new FlowLayout());
@@ -158,7 +200,7 @@ public class TicTacToeGame extends JFrame {
         resetButton.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
         resetButton.addActionListener(e -> resetGame()); // 버튼을 누르면 기존의 게임 지우고 새로 시작
         
-        JButton changeSymbolButton = new JButton("심볼 변경 (" + (humanSymbol == 'X' ? "O" : "X") + "로)");
+        changeSymbolButton = new JButton();
         changeSymbolButton.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
         changeSymbolButton.addActionListener(e -> {
             // 심볼 변경
@@ -175,7 +217,7 @@ public class TicTacToeGame extends JFrame {
         
         JButton changeDifficultyButton = new JButton("난이도 변경");
         changeDifficultyButton.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
-        changeDifficultyButton.addActionListener(e -> { // 버튼을 누르면 기존의 화면을 전부 지우고 새로 난이도 선택 및 시작
+        changeDifficultyButton.addActionListener(e -> { // 버튼을 누르면 난이도를 다시 선택해 새로 시작
             showDifficultySelection();
         });
         
@@ -183,15 +225,6 @@ public class TicTacToeGame extends JFrame {
         buttonPanel.add(changeSymbolButton);
         buttonPanel.add(changeDifficultyButton);
         add(buttonPanel, BorderLayout.SOUTH);
-        
-        // 컴포넌트를 추가/제거하거나 상태를 바꾼 뒤 화면을 완전히 갱신할 때 사용
-        revalidate();
-        repaint();
-        
-        // O를 선택했다면 AI가 먼저 시작
-        if (!gameActive) {
-        	startAIMoveTimer();
-        }
     }
     
     // 게임 보드 칸에 버튼이 눌리면 해당 함수가 동작함. AI의 차례이면 플레이어 입력 무시, 이미 X나 O가 있는 칸이면 무시
@@ -200,19 +233,18 @@ public class TicTacToeGame extends JFrame {
         // 이미 채워진 칸을 선택하면 예외 발생
         try {
         	if (board.getCell(position) != Board.EMPTY) {
-                // isClicked 플래그가 제대로 작동하지 않았을 때 예외를 발생시킵니다.
+                // 보드 뷰가 채워진 칸의 클릭을 걸러내지 못했을 때 예외를 발생시킵니다.
                 throw new InvalidMoveException("이미 심볼이 놓인 칸(" + position + ")을 선택했습니다.");
             }
         
         // 플레이어 이동
         board.makeMove(position, humanSymbol);
-        buttons[position].setText(String.valueOf(humanSymbol));
-        buttons[position].setForeground(Color.BLUE);      
-        buttons[position].setBorder(null);  // L&F의 Hover 테두리 효과를 제거합니다.
-        buttons[position].setContentAreaFilled(false); // L&F의 Hover 배경 효과를 막기 위해 ContentAreaFilled를 끕니다.
-        buttons[position].setOpaque(true); // 배경색(WHITE)이 보이도록 설정
-        isClicked[position] = true;
-        buttons[position].setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+        moveHistory[moveCount++] = position;
+        boardView.cellChanged(position); // 바뀐 칸만 다시 그립니다.
+        // 미리 계산한 응수가 있으면 꺼내고, 예측하지 못한 수였다면 남은 폰더링을 취소합니다.
+        long lookupStart = System.nanoTime();
+        int ponderedMove = ponderer.take(position);
+        long lookupNanos = System.nanoTime() - lookupStart;
      
         // 게임이 끝났는지 확인
         if (checkGameEnd()) {
@@ -223,7 +255,13 @@ public class TicTacToeGame extends JFrame {
         gameActive = false;
         statusLabel.setText("AI가 생각 중...");
         
-        startAIMoveTimer();
+        // 미리 계산한 응수는 꺼내는 시간이 곧 사용자가 기다린 AI 응답 시간이므로, 지연 없이 바로 둡니다.
+        if (ponderedMove >= 0) {
+            analytics.recordMove(currentDifficulty, lookupNanos);
+            applyAIMove(gameGeneration, ponderedMove);
+        } else {
+            startAIMoveTimer();
+        }
         } catch (InvalidMoveException e) {
         	System.err.println("로직 오류: " + e.getMessage());
             //팝업으로 경고
@@ -253,27 +291,71 @@ public class TicTacToeGame extends JFrame {
         }
     }
 
-    // AI 수 두기 로직
-    private void makeAIMove() {
+    // AI 수 계산 요청: 현재 보드를 복사해 AI 스레드에서 탐색하고, 결과는 EDT에서 applyAIMove로 반영합니다.
+    private void requestAIMove() {
+        final int generation = gameGeneration;
+        final Board snapshot = board.clone();
+        final AIStrategy player = aiPlayer;
+        final String difficulty = currentDifficulty;
+        final long deadline = System.currentTimeMillis() + AI_TIME_LIMIT_MS;
+        
+        aiTask = aiExecutor.submit(() -> {
+            int move;
+            try {
+                long start = System.nanoTime();
+                move = player.makeMove(snapshot, deadline);
+                analytics.recordMove(difficulty, System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                SwingUtilities.invokeLater(() -> handleAIError(generation, e));
+                return;
+            }
+            SwingUtilities.invokeLater(() -> applyAIMove(generation, move));
+        });
+    }
+    
+    // 진행 중인 AI 타이머와 탐색을 취소하고, 이미 계산된 결과도 반영되지 않도록 세대를 올립니다.
+    private void cancelAIMove() {
+        gameGeneration++;
+        ponderer.cancel();
+        if (aiMoveTimer != null) {
+            aiMoveTimer.stop();
+            aiMoveTimer = null;
+        }
+        if (aiTask != null) {
+            aiTask.cancel(true);
+            aiTask = null;
+        }
+    }
+    
+    private void handleAIError(int generation, RuntimeException e) {
+        if (generation != gameGeneration || e instanceof CancellationException) {
+            return;
+        }
+        System.err.println("로직 오류 발생 (AI): " + e.getMessage());
+        statusLabel.setText("게임 오류 발생. (재시작 필요)");
+        gameActive = false;
+    }
+
+    // AI 수 두기 로직 (EDT에서 실행)
+    private void applyAIMove(int generation, int aiMove) {
+        if (generation != gameGeneration) { // 이미 다시 시작된 게임의 결과는 버립니다.
+            return;
+        }
+        aiTask = null;
     	try {
     		
-        int aiMove = aiPlayer.makeMove(board);
         if (aiMove == -1) { // aiMove가 -1일 경우 예외 발생
             throw new InvalidMoveException("AI가 둘 수 있는 유효한 수를 찾지 못했습니다. (makeMove가 -1 반환)");
         }
             board.makeMove(aiMove, aiSymbol);
-            buttons[aiMove].setText(String.valueOf(aiSymbol));
-            buttons[aiMove].setForeground(Color.RED);
-            buttons[aiMove].setBorder(null);
-            buttons[aiMove].setContentAreaFilled(false);
-            buttons[aiMove].setOpaque(true);
-            isClicked[aiMove] = true;
-            buttons[aiMove].setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+            moveHistory[moveCount++] = aiMove;
+            boardView.cellChanged(aiMove);
             
         // 게임이 끝나지 않았다면 플레이어에게 차례를 안내하고 플레이어의 입력을 받을 수 있도록 gameActive를 true로 변경
         if (!checkGameEnd()) {
             statusLabel.setText("당신의 차례입니다 (" + humanSymbol + ")");
             gameActive = true;
+            startPondering();
         }
     	} catch (InvalidMoveException e) {
     		System.err.println("로직 오류 발생 (AI): " + e.getMessage()); 
@@ -288,7 +370,27 @@ public class TicTacToeGame extends JFrame {
         if (winner != ' ') { // ' '는 무승부/빈칸 등의 의미로 사용 (Board.EMPTY를 사용해도 됨)
             updateScore(winner); 
         }
-        disableAllButtons();
+        boardView.setEnabled(false); // 판이 끝나면 게임판 입력을 막습니다.
+        recordGame(winner);
+    }
+    
+    // 끝난 판을 통계에 더하고 기보 파일에 남깁니다. 한 판에 몇 바이트뿐이라 창을 닫아도 잃지 않도록 바로 파일에 씁니다.
+    private void recordGame(char winner) {
+        analytics.recordGame(currentDifficulty, GameAnalytics.pack(moveHistory, moveCount), moveCount,
+                GameRecordWriter.resultOf(winner), aiSymbol);
+        if (recordFailed) {
+            return;
+        }
+        try {
+            if (recordWriter == null) {
+                recordWriter = new GameRecordWriter(Paths.get(RECORD_FILE));
+            }
+            recordWriter.write(moveHistory, moveCount, winner);
+            recordWriter.flush();
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("기보를 기록하지 못했습니다: " + e.getMessage());
+            recordFailed = true;
+        }
     }
     
     private boolean checkGameEnd() {
@@ -306,16 +408,10 @@ public class TicTacToeGame extends JFrame {
             return false; // 게임 계속
     }
     
-    // 게임 보드의 버튼을 비활성화
-    private void disableAllButtons() {
-        for (JButton button : buttons) {
-            button.setEnabled(false);
-        }
-    }
-    
     private void resetGame() {
+        cancelAIMove();
         board.reset(); 
-        isClicked = new boolean[9];
+        moveCount = 0;
         gameActive = (humanSymbol == 'X'); // X가 먼저 시작
         String initialMessage = gameActive ? 
             "당신의 차례입니다 (" + humanSymbol + ")" : 
@@ -323,24 +419,29 @@ public class TicTacToeGame extends JFrame {
         statusLabel.setText(initialMessage);
         statusLabel.setForeground(Color.BLACK);
         
-        for (int i = 0; i < 9; i++) {
-            buttons[i].setText("");
-            buttons[i].setBackground(Color.WHITE);
-            buttons[i].updateUI();
-            buttons[i].setCursor(new Cursor(Cursor.HAND_CURSOR));
-            buttons[i].setEnabled(true);
-        }
+        boardView.setBoard(board); // 모델이 비었으므로 게임판 전체를 한 번 다시 그립니다.
+        boardView.setEnabled(true);
         
         // O를 선택했다면 AI가 먼저 시작
         if (!gameActive) {
         	startAIMoveTimer();
+        } else {
+            startPondering();
         }
     }
-    // 500ms 지연 후 makeAIMove()를 실행하는 타이머 - 자연스러운 움직임을 위함
+    
+    // 사람 차례가 되면 현재 보드에서 폰더링을 시작합니다.
+    private void startPondering() {
+        if (humanPredictor != null) {
+            ponderer.start(board, humanSymbol, ponderStrategy, humanPredictor, AI_TIME_LIMIT_MS);
+        }
+    }
+    
+    // 500ms 지연 후 requestAIMove()를 실행하는 타이머 - 자연스러운 움직임을 위함
     private void startAIMoveTimer() {
-        Timer timer = new Timer(500, e -> makeAIMove()); 
-        timer.setRepeats(false); // 한 번만 실행되도록 설정
-        timer.start();
+        aiMoveTimer = new Timer(500, e -> requestAIMove()); 
+        aiMoveTimer.setRepeats(false); // 한 번만 실행되도록 설정
+        aiMoveTimer.start();
     }
     
     public static void main(String[] args) {
@@ -0,0 +1,89 @@
+package tictactoe;
+
+// 미니맥스 탐색 결과를 저장하는 고정 크기 치환표.
+// 항목은 long 두 개(키, 데이터)로만 표현해 객체를 만들지 않으며, 크기는 생성할 때 정해지고 더 늘어나지 않습니다.
+// 인접한 두 칸을 한 버킷으로 써서 첫 칸은 깊이 우선(더 깊게 탐색한 결과를 보존),
+// 둘째 칸은 항상 교체 방식으로 채웁니다. 이전 탐색에서 남은 항목은 깊이와 상관없이 교체됩니다.
+class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1; // 실제 값 >= score
+    public static final int UPPER_BOUND = 2; // 실제 값 <= score
+    public static final int NO_MOVE = -1;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private int generation = 1; // 1~255를 순환하므로 저장된 데이터는 0이 되지 않습니다.
+
+    // 데이터 비트 배치: [63..32] 점수 | [27..20] 세대 | [19..10] 수+1 | [9..8] 종류 | [7..0] 깊이
+    public TranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity));
+        keys = new long[size];
+        data = new long[size];
+        mask = size - 2; // 버킷 시작 위치는 항상 짝수
+    }
+
+    // 새 탐색을 시작할 때 호출하면 이전 탐색의 항목이 교체 대상으로 밀려납니다.
+    public void newSearch() {
+        generation = generation % 255 + 1;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(keys, 0L);
+        java.util.Arrays.fill(data, 0L);
+    }
+
+    // 키에 해당하는 데이터를 반환합니다. 없으면 0을 반환합니다.
+    // 키는 key ^ data 형태로 저장해, 두 값이 어긋나게 쓰인 항목은 조회되지 않도록 합니다.
+    public long probe(long key) {
+        int index = (int) key & mask;
+        for (int i = index; i < index + 2; i++) {
+            long entry = data[i];
+            if (entry != 0 && (keys[i] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return 0L;
+    }
+
+    public void store(long key, int depth, int flag, int score, int move) {
+        int index = (int) key & mask;
+        long entry = ((long) score << 32)
+                | ((long) generation << 20)
+                | ((long) (move + 1) << 10)
+                | ((long) flag << 8)
+                | depth;
+
+        // 같은 키가 이미 있으면 그 자리를 갱신하고, 아니면 깊이 우선 칸을 먼저 검토합니다.
+        int slot = index + 1;
+        long existing = data[index];
+        if ((keys[index] ^ existing) == key || existing == 0
+                || generationOf(existing) != generation || depthOf(existing) <= depth) {
+            slot = index;
+        } else if ((keys[index + 1] ^ data[index + 1]) == key) {
+            slot = index + 1;
+        }
+        data[slot] = entry;
+        keys[slot] = key ^ entry;
+    }
+
+    public static int scoreOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    public static int depthOf(long entry) {
+        return (int) (entry & 0xFF);
+    }
+
+    public static int flagOf(long entry) {
+        return (int) ((entry >> 8) & 0x3);
+    }
+
+    public static int moveOf(long entry) {
+        return (int) ((entry >> 10) & 0x3FF) - 1;
+    }
+
+    private static int generationOf(long entry) {
+        return (int) ((entry >> 20) & 0xFF);
+    }
+}
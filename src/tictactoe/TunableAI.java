@@ -0,0 +1,189 @@
+package tictactoe;
+
+// 탐색 없이 미리 계산한 "수별 점수" 표에서 수를 고르는, 강도를 조절할 수 있는 AI.
+// 확률 epsilon으로 빈 칸 중 아무 곳에나 두고, 나머지 경우에는 점수에 대한 소프트맥스(온도 temperature)로 고릅니다.
+// 강도 1은 거의 항상 최선의 수(완벽한 플레이), 강도 0은 쉬움 AI와 같은 무작위 수이며,
+// 강도별 실제 승률은 StrengthCalibration으로 측정해 원하는 승률에 맞는 강도를 찾습니다.
+// 국면 번호는 비트보드에서 표 두 번으로 구하므로 한 수에 빈 칸 몇 개만 보고 객체를 만들지 않습니다.
+// 점수 표는 3×3에만 있으며, 다른 크기의 보드에서는 무작위로 둡니다.
+// 난수 상태를 가지므로 스레드끼리 공유하지 않습니다.
+class TunableAI implements AIStrategy {
+    public static final double MIN_TEMPERATURE = 0.05;
+
+    private final String name;
+    private final double strength;
+    private final double epsilon;
+    // relativeWeights[최고 점수 - 점수] = exp(-(최고 점수 - 점수) / temperature). 최선의 수의 가중치가 1이 되도록 맞춥니다.
+    private final double[] relativeWeights = new double[2 * ScoreTable.MAX_SCORE + 1];
+    private long randomState;
+
+    public TunableAI(double strength) {
+        this(strength, 1.0 - strength, MIN_TEMPERATURE + 3.0 * (1.0 - strength));
+    }
+
+    public TunableAI(double strength, double epsilon, double temperature) {
+        checkStrength(strength);
+        if (!(epsilon >= 0 && epsilon <= 1) || !(temperature > 0)) {
+            throw new IllegalArgumentException(
+                    "강도 설정이 올바르지 않습니다: 강도 " + strength + ", epsilon " + epsilon + ", 온도 " + temperature);
+        }
+        this.name = String.format("조절 AI (강도 %.2f)", strength);
+        this.strength = strength;
+        this.epsilon = epsilon;
+        for (int d = 0; d < relativeWeights.length; d++) {
+            relativeWeights[d] = Math.exp(-d / temperature);
+        }
+        randomState = System.nanoTime() ^ ((long) System.identityHashCode(this) << 32) | 1L;
+    }
+
+    // 강도는 0에서 1 사이여야 합니다. NaN도 거부합니다.
+    static void checkStrength(double strength) {
+        if (!(strength >= 0 && strength <= 1)) {
+            throw new IllegalArgumentException("강도는 0에서 1 사이여야 합니다: " + strength);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public double getStrength() {
+        return strength;
+    }
+
+    @Override
+    public int makeMove(Board board) {
+        int emptyCount = board.getEmptyCount();
+        if (emptyCount == 0) {
+            return -1;
+        }
+        if (!MinimaxSearcher.isClassic(board) || nextDouble() < epsilon) {
+            return pickEmpty(board, (int) (nextDouble() * emptyCount));
+        }
+
+        // 첫 번째로 최고 점수를 찾고, 두 번째로 가중치 합을 구한 뒤, 세 번째로 합 안에서 뽑은 위치의 수를 고릅니다.
+        long empty = board.getEmptyBits(0);
+        int base = ScoreTable.index(board.getBits('X', 0), board.getBits('O', 0)) * ScoreTable.CELLS;
+        int best = -ScoreTable.MAX_SCORE;
+        for (long bits = empty; bits != 0; bits &= bits - 1) {
+            best = Math.max(best, ScoreTable.SCORES[base + Long.numberOfTrailingZeros(bits)]);
+        }
+        double total = 0;
+        for (long bits = empty; bits != 0; bits &= bits - 1) {
+            total += relativeWeights[best - ScoreTable.SCORES[base + Long.numberOfTrailingZeros(bits)]];
+        }
+        double r = nextDouble() * total;
+        int cell = -1;
+        for (long bits = empty; bits != 0; bits &= bits - 1) {
+            cell = Long.numberOfTrailingZeros(bits);
+            r -= relativeWeights[best - ScoreTable.SCORES[base + cell]];
+            if (r < 0) {
+                break;
+            }
+        }
+        return cell;
+    }
+
+    // k번째 빈 칸(0부터)
+    private static int pickEmpty(Board board, int k) {
+        for (int w = 0; w < board.getWordCount(); w++) {
+            long empty = board.getEmptyBits(w);
+            int count = Long.bitCount(empty);
+            if (k < count) {
+                for (; k > 0; k--) {
+                    empty &= empty - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(empty);
+            }
+            k -= count;
+        }
+        return -1;
+    }
+
+    // [0, 1) 범위의 난수 (xorshift64*)
+    private double nextDouble() {
+        randomState ^= randomState >>> 12;
+        randomState ^= randomState << 25;
+        randomState ^= randomState >>> 27;
+        return ((randomState * 0x2545F4914F6CDD1DL) >>> 11) * 0x1.0p-53;
+    }
+
+    // 3×3의 모든 국면(3^9개)에서 각 빈 칸에 두었을 때의 완전 탐색 점수를 둘 차례 기준으로 저장한 표.
+    // 이기면 10 - (끝났을 때의 돌 수), 지면 그 음수, 비기면 0이라 빨리 이기고 늦게 지는 수가 높은 점수를 받습니다.
+    // 처음 사용할 때 한 번만 만들고(약 180KB) 모든 인스턴스가 공유합니다.
+    static final class ScoreTable {
+        static final int CELLS = 9;
+        static final int MAX_SCORE = 10;
+        private static final int POSITIONS = 19683; // 3^9
+        private static final byte UNSOLVED = Byte.MIN_VALUE;
+        private static final int[] LINES = {
+                0007, 0070, 0700, 0111, 0222, 0444, 0421, 0124 // 가로 3, 세로 3, 대각선 2 (칸 i = 비트 i)
+        };
+
+        // TERNARY[마스크] = 마스크의 비트 i마다 3^i를 더한 값. 국면 번호 = TERNARY[X] + 2 * TERNARY[O]
+        private static final int[] TERNARY = new int[1 << CELLS];
+        static final byte[] SCORES = new byte[POSITIONS * CELLS];
+
+        static {
+            for (int mask = 1; mask < TERNARY.length; mask++) {
+                int low = Integer.numberOfTrailingZeros(mask);
+                int power = 1;
+                for (int i = 0; i < low; i++) {
+                    power *= 3;
+                }
+                TERNARY[mask] = TERNARY[mask & (mask - 1)] + power;
+            }
+            byte[] values = new byte[POSITIONS];
+            java.util.Arrays.fill(values, UNSOLVED);
+            solve(0, 0, values);
+        }
+
+        private ScoreTable() {
+        }
+
+        static int index(long xMask, long oMask) {
+            return TERNARY[(int) xMask] + 2 * TERNARY[(int) oMask];
+        }
+
+        // 둘 차례 기준 국면 값. 빈 보드에서 실제로 나올 수 있는 국면만 방문합니다.
+        private static int solve(int xMask, int oMask, byte[] values) {
+            int index = index(xMask, oMask);
+            if (values[index] != UNSOLVED) {
+                return values[index];
+            }
+            int stones = Integer.bitCount(xMask | oMask);
+            boolean xToMove = Integer.bitCount(xMask) == Integer.bitCount(oMask);
+            int opponent = xToMove ? oMask : xMask;
+            int value;
+            if (hasLine(opponent)) {
+                value = -(MAX_SCORE - stones); // 직전에 상대가 이겼습니다.
+            } else if (stones == CELLS) {
+                value = 0;
+            } else {
+                value = -MAX_SCORE;
+                for (int cell = 0; cell < CELLS; cell++) {
+                    if (((xMask | oMask) & (1 << cell)) != 0) {
+                        continue;
+                    }
+                    int score = xToMove
+                            ? -solve(xMask | (1 << cell), oMask, values)
+                            : -solve(xMask, oMask | (1 << cell), values);
+                    SCORES[index * CELLS + cell] = (byte) score;
+                    value = Math.max(value, score);
+                }
+            }
+            values[index] = (byte) value;
+            return value;
+        }
+
+        private static boolean hasLine(int mask) {
+            for (int line : LINES) {
+                if ((mask & line) == line) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package tictactoe;
+
+import java.util.Random;
+
+// 보드 해시에 사용하는 조브리스트 난수 표와 8가지 대칭 변환(회전 4개, 반사 4개) 표.
+// 대칭 s에 대한 해시는 각 돌을 perm[s][칸] 위치에 놓은 것으로 계산하므로,
+// 8개의 해시 중 최솟값을 쓰면 회전/반사로 같아지는 국면이 하나의 해시를 공유합니다.
+class Zobrist {
+    public static final int SYMMETRY_COUNT = 8;
+    // 난수 시드를 고정해 실행할 때마다 같은 해시가 나오도록 합니다.
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    // 보드 크기별로 한 번만 만들어 모든 보드가 공유합니다.
+    private static final java.util.concurrent.ConcurrentHashMap<Integer, Zobrist> CACHE =
+            new java.util.concurrent.ConcurrentHashMap<>();
+
+    private final int size;
+    private final long[] xKeys;
+    private final long[] oKeys;
+    private final int[][] perm;    // perm[s][칸] = 대칭 s를 적용한 뒤의 칸 번호
+    private final int[][] inverse; // inverse[s][칸] = perm[s]의 역변환
+
+    Zobrist(int size) {
+        this.size = size;
+        int cells = size * size;
+        Random random = new Random(SEED + size);
+        xKeys = new long[cells];
+        oKeys = new long[cells];
+        for (int i = 0; i < cells; i++) {
+            xKeys[i] = random.nextLong();
+            oKeys[i] = random.nextLong();
+        }
+
+        perm = new int[SYMMETRY_COUNT][cells];
+        inverse = new int[SYMMETRY_COUNT][cells];
+        for (int s = 0; s < SYMMETRY_COUNT; s++) {
+            for (int i = 0; i < cells; i++) {
+                int mapped = transform(s, i / size, i % size);
+                perm[s][i] = mapped;
+                inverse[s][mapped] = i;
+            }
+        }
+    }
+
+    public static Zobrist forSize(int size) {
+        return CACHE.computeIfAbsent(size, Zobrist::new);
+    }
+
+    private int transform(int symmetry, int r, int c) {
+        int n = size - 1;
+        switch (symmetry) {
+            case 0: return r * size + c;             // 그대로
+            case 1: return c * size + (n - r);       // 90도 회전
+            case 2: return (n - r) * size + (n - c); // 180도 회전
+            case 3: return (n - c) * size + r;       // 270도 회전
+            case 4: return r * size + (n - c);       // 좌우 반전
+            case 5: return (n - r) * size + c;       // 상하 반전
+            case 6: return c * size + r;             // 주대각선 반사
+            default: return (n - c) * size + (n - r); // 부대각선 반사
+        }
+    }
+
+    public long key(char player, int cell) {
+        return player == 'X' ? xKeys[cell] : oKeys[cell];
+    }
+
+    // 대칭 s를 적용했을 때 cell에 놓인 돌의 해시 키
+    public long key(char player, int symmetry, int cell) {
+        return key(player, perm[symmetry][cell]);
+    }
+
+    // 원래 보드의 칸을 대칭 s의 기준 좌표로 변환합니다.
+    public int toCanonical(int symmetry, int cell) {
+        return perm[symmetry][cell];
+    }
+
+    // 대칭 s의 기준 좌표로 저장된 칸을 원래 보드의 칸으로 되돌립니다.
+    public int fromCanonical(int symmetry, int cell) {
+        return inverse[symmetry][cell];
+    }
+}
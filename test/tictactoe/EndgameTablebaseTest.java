@@ -0,0 +1,112 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// 4×4 보드에서 종반 표를 써도 표 없이 탐색할 때와 같은 수와 점수를 고르는지 확인합니다.
+// 큰 보드의 탐색은 주변에 돌이 있는 빈 칸만 보므로, 모든 수를 본 종반 표의 값과 어긋날 수 있습니다.
+class EndgameTablebaseTest {
+    private static final int SIZE = 4;
+    private static final int WIN_LENGTH = 4;
+    private static final int EMPTIES = 6;
+
+    private static EndgameTablebase tablebase;
+
+    @BeforeAll
+    static void generateTablebase() {
+        tablebase = EndgameTablebase.generate(SIZE, WIN_LENGTH, EMPTIES);
+    }
+
+    // 칸 15는 주변에 돌이 없어 탐색이 보지 않는 칸입니다. 표의 무승부를 그대로 쓰면 다른 수(0 대신 10)를 골랐습니다.
+    @Test
+    void positionWithIsolatedEmptyCell() {
+        Board board = parse(".X.OOXXOXX..OO..");
+        assertFalse(MinimaxSearcher.isEveryEmptyCandidate(board));
+        assertSameChoice(board);
+    }
+
+    @Test
+    void randomQuietPositions() {
+        Random random = new Random(20261017L);
+        long hits = 0;
+        int compared = 0;
+        while (compared < 500) {
+            Board board = randomPosition(random);
+            // 바로 이기는 수가 있으면 깊이 1에서 끝나 종반 표까지 내려가지 않으므로 조용한 국면만 비교합니다.
+            if (board == null || board.getThreatCount('X') > 0 || board.getThreatCount('O') > 0) {
+                continue;
+            }
+            hits += assertSameChoice(board);
+            compared++;
+        }
+        assertTrue(hits > 0, "종반 표를 한 번도 쓰지 않았습니다.");
+    }
+
+    // 표를 쓴 탐색과 쓰지 않은 탐색의 수와 점수를 비교하고, 표를 쓴 횟수를 반환합니다.
+    private static long assertSameChoice(Board board) {
+        MinimaxAI withTable = newAI();
+        withTable.setTablebase(tablebase);
+        MinimaxAI withoutTable = newAI();
+        withoutTable.setTablebase(null);
+
+        long deadline = System.currentTimeMillis() + 60_000;
+        int expected = withoutTable.makeMove(board.clone(), deadline);
+        int actual = withTable.makeMove(board.clone(), deadline);
+        assertEquals(expected, actual, () -> "국면 " + cellsOf(board));
+        assertEquals(withoutTable.getLastScore(), withTable.getLastScore(), () -> "국면 " + cellsOf(board));
+        return withTable.getTablebaseHitCount();
+    }
+
+    // 빈 칸 수만큼 깊이 탐색하는 X 차례의 AI. 다른 테스트의 결과가 섞이지 않도록 공유 캐시는 쓰지 않습니다.
+    private static MinimaxAI newAI() {
+        MinimaxAI ai = new MinimaxAI('X', 'O', EMPTIES);
+        ai.setSharedCache(null);
+        return ai;
+    }
+
+    private static Board parse(String cells) {
+        Board board = new Board(SIZE, WIN_LENGTH);
+        for (int i = 0; i < cells.length(); i++) {
+            if (cells.charAt(i) != '.') {
+                board.makeMove(i, cells.charAt(i));
+            }
+        }
+        return board;
+    }
+
+    private static String cellsOf(Board board) {
+        StringBuilder cells = new StringBuilder(board.getCellCount());
+        for (int i = 0; i < board.getCellCount(); i++) {
+            cells.append(board.isEmpty(i) ? '.' : board.getCell(i));
+        }
+        return cells.toString();
+    }
+
+    // 빈 칸이 EMPTIES개 남고 아직 끝나지 않은 X 차례 국면. 돌을 놓다가 승부가 나면 null을 반환합니다.
+    private static Board randomPosition(Random random) {
+        Board board = new Board(SIZE, WIN_LENGTH);
+        int[] cells = new int[SIZE * SIZE];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+        }
+        for (int i = cells.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = cells[i];
+            cells[i] = cells[j];
+            cells[j] = t;
+        }
+        for (int i = 0; i < cells.length - EMPTIES; i++) {
+            board.makeMove(cells[i], i % 2 == 0 ? 'X' : 'O');
+            if (board.checkWinner() != Board.EMPTY) {
+                return null;
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,54 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 스냅숏을 저장한 뒤에는 매핑이 새 파일로 바뀌어, 메모리에서 밀려난 항목을 방금 저장한 스냅숏에서 찾는지 확인합니다.
+class EvaluationCacheTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedEntriesAreFoundAfterEviction() throws IOException {
+        Path path = directory.resolve("cache.snap");
+        EvaluationCache cache = new EvaluationCache(4); // 버킷 하나(4칸)
+        cache.attachSnapshot(path, 0);
+        for (long key = 1; key <= 4; key++) {
+            cache.store(key, (int) key * 10, (int) key);
+        }
+        cache.saveSnapshot();
+        assertTrue(Files.isRegularFile(path));
+
+        for (long key = 5; key <= 8; key++) {
+            cache.store(key, (int) key * 10, (int) key);
+        }
+        for (long key = 1; key <= 4; key++) {
+            long entry = cache.probe(key);
+            assertEquals(key * 10, EvaluationCache.scoreOf(entry), "키 " + key);
+        }
+        assertEquals(4, cache.getSnapshotHits());
+
+        // 다시 저장해도 이전 매핑을 해제하고 바꾼 파일을 다시 매핑합니다.
+        cache.saveSnapshot();
+        cache.saveSnapshot();
+        assertTrue(cache.probe(1) != 0);
+
+        // 연결을 끊으면 매핑을 해제하고 종료 시 저장도 하지 않으므로, 임시 디렉터리를 지울 수 있습니다.
+        cache.detachSnapshot();
+        cache.clear();
+        assertEquals(0, cache.probe(1));
+
+        // 저장한 파일은 다른 캐시에 다시 연결해 쓸 수 있습니다.
+        EvaluationCache reopened = new EvaluationCache(4);
+        reopened.attachSnapshot(path, 0);
+        assertTrue(reopened.probe(1) != 0);
+        reopened.detachSnapshot();
+    }
+}
@@ -0,0 +1,78 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 쓰다 만 기록이 남은 기보 파일에 이어 써도 모든 게임을 제자리에서 읽을 수 있는지 확인합니다.
+class GameRecordWriterTest {
+    private static final int[][] FIRST_GAMES = {
+            {4, 0, 8, 2, 6, 3, 1, 5, 7},
+            {0, 4, 1, 2, 6, 3, 5},
+            {4, 0, 2, 6, 3, 5, 1, 7, 8},
+    };
+    private static final int[][] LATER_GAMES = {
+            {0, 3, 1, 4, 2},
+            {8, 4, 0, 1, 7, 6, 2, 5, 3},
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopeningDropsPartialTailBeforeAppending() throws IOException {
+        Path path = directory.resolve("games.ttr");
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            write(writer, FIRST_GAMES);
+        }
+        long complete = Files.size(path);
+        // 수 5개짜리 기록(4바이트)의 앞 2바이트만 쓰고 종료된 상태
+        Files.write(path, new byte[] {(byte) ((GameRecordWriter.RESULT_X_WIN << 4) | 5), 0x34},
+                StandardOpenOption.APPEND);
+
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            assertEquals(complete, Files.size(path));
+            write(writer, LATER_GAMES);
+        }
+
+        List<int[]> games = new ArrayList<>();
+        long count = GameRecordReader.forEach(path, (index, result, moves, moveCount) ->
+                games.add(Arrays.copyOf(moves, moveCount)));
+        assertEquals(FIRST_GAMES.length + LATER_GAMES.length, count);
+        for (int i = 0; i < FIRST_GAMES.length; i++) {
+            assertArrayEquals(FIRST_GAMES[i], games.get(i));
+        }
+        for (int i = 0; i < LATER_GAMES.length; i++) {
+            assertArrayEquals(LATER_GAMES[i], games.get(FIRST_GAMES.length + i));
+        }
+    }
+
+    @Test
+    void reopeningCompleteFileKeepsEveryRecord() throws IOException {
+        Path path = directory.resolve("games.ttr");
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            write(writer, FIRST_GAMES);
+        }
+        long complete = Files.size(path);
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            assertEquals(complete, Files.size(path));
+        }
+        assertEquals(FIRST_GAMES.length, GameRecordReader.forEach(path, (index, result, moves, moveCount) -> { }));
+    }
+
+    private static void write(GameRecordWriter writer, int[][] games) {
+        for (int[] moves : games) {
+            writer.write(moves, moves.length, moves.length % 2 == 1 ? 'X' : 'O');
+        }
+    }
+}
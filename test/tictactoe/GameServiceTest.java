@@ -0,0 +1,145 @@
+package tictactoe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// AI 계산이 시간을 넘겨 실패한 뒤에도 세션을 계속 진행할 수 있는지 확인합니다.
+class GameServiceTest {
+    private static final long AI_TIME_LIMIT_MILLIS = 50;
+
+    // 0보다 크면 그만큼 AI 계산을 시간 제한보다 오래 붙잡아 두어 시간 초과를 일으킵니다.
+    private final AtomicInteger slowMoves = new AtomicInteger();
+    private GameService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GameService(1, 4, 60_000, 100, AI_TIME_LIMIT_MILLIS, this::createStrategies);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    private AIStrategy[] createStrategies() {
+        AIStrategy[] strategies = new AIStrategy[6];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = new FirstEmptyAI();
+        }
+        return strategies;
+    }
+
+    @Test
+    void timedOutReplyLeavesSessionBeforeHumanMove() {
+        long id = createSession('X');
+        slowMoves.set(1);
+
+        assertThrows(IllegalStateException.class, () -> service.play(id, 4));
+        assertEquals(".........", boardOf(service.getSession(id)));
+
+        String json = service.play(id, 4);
+        assertEquals("O...X....", boardOf(json));
+        assertEquals(2, service.getMovesPlayed());
+    }
+
+    @Test
+    void failedFirstMoveDoesNotLeaveSession() {
+        slowMoves.set(1);
+
+        assertThrows(IllegalStateException.class, () -> service.createSession("HARD", 'O'));
+        assertEquals(0, service.getSessionCount());
+    }
+
+    @Test
+    void sessionStuckOnAITurnResumesOnNextRequest() {
+        long id = createSession('O');
+        slowMoves.set(1);
+
+        assertThrows(IllegalStateException.class, () -> service.reset(id));
+        assertEquals("X........", boardOf(service.getSession(id)));
+
+        String json = service.play(id, 4);
+        assertEquals("XX..O....", boardOf(json));
+        assertTrue(json.contains("\"status\":\"PLAYING\""), json);
+    }
+
+    // 여러 스레드가 한꺼번에 게임을 만들어도 한도만큼만 만들어지고, 지운 만큼 다시 만들 수 있어야 합니다.
+    @Test
+    void concurrentCreatesStayWithinLimit() throws InterruptedException {
+        int maxSessions = 8;
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] clients = new Thread[16];
+        try (GameService limited = new GameService(1, 4, 60_000, maxSessions, AI_TIME_LIMIT_MILLIS,
+                this::createStrategies)) {
+            for (int i = 0; i < clients.length; i++) {
+                clients[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < 10; j++) {
+                            try {
+                                limited.createSession("EASY", 'X');
+                                created.incrementAndGet();
+                            } catch (IllegalStateException e) {
+                                // 한도를 넘은 요청
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                clients[i].start();
+            }
+            start.countDown();
+            for (Thread client : clients) {
+                client.join();
+            }
+            assertEquals(maxSessions, created.get());
+            assertEquals(maxSessions, limited.getSessionCount());
+
+            assertThrows(IllegalStateException.class, () -> limited.createSession("EASY", 'X'));
+
+            assertTrue(limited.remove(1));
+            limited.createSession("EASY", 'X');
+            assertEquals(maxSessions, limited.getSessionCount());
+        }
+    }
+
+    private long createSession(char humanSymbol) {
+        String json = service.createSession("HARD", humanSymbol);
+        return Long.parseLong(json.substring(json.indexOf(':') + 1, json.indexOf(',')));
+    }
+
+    private static String boardOf(String json) {
+        int start = json.indexOf("\"board\":\"") + 9;
+        return json.substring(start, start + 9);
+    }
+
+    // 가장 작은 빈 칸에 두는 AI. slowMoves가 남아 있으면 응답을 늦춥니다.
+    private final class FirstEmptyAI implements AIStrategy {
+        @Override
+        public int makeMove(Board board) {
+            if (slowMoves.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                try {
+                    Thread.sleep(AI_TIME_LIMIT_MILLIS * 20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Long.numberOfTrailingZeros(board.getEmptyBits(0));
+        }
+
+        @Override
+        public String getName() {
+            return "첫 빈 칸";
+        }
+    }
+}